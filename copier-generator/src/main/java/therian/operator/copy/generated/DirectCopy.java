@@ -0,0 +1,41 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.copy.generated;
+
+/**
+ * Implemented by generated classes to copy the values of matching properties from a source bean to a target bean.
+ *
+ * @see DirectCopyGenerator
+ */
+public interface DirectCopy {
+
+    /**
+     * Learn whether {@link #copy(Object, Object)} can be applied to {@code source}, i.e. whether none of the property
+     * values it would unbox is {@code null}.
+     *
+     * @param source bean
+     * @return boolean
+     */
+    boolean isCopyable(Object source);
+
+    /**
+     * Copy property values.
+     *
+     * @param source bean
+     * @param target bean
+     */
+    void copy(Object source, Object target);
+}
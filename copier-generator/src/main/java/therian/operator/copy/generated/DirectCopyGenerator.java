@@ -0,0 +1,361 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.copy.generated;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.tuple.Pair;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import therian.operator.copy.BeanCopier;
+import therian.operator.copy.PropertyCopier.Mapping;
+import therian.operator.copy.PropertyCopier.Matching;
+
+/**
+ * Generates {@link DirectCopy} implementations for pairs of bean classes, consisting of straight-line getter/setter
+ * invocations for the properties designated by a {@link Mapping} and/or {@link Matching}, as interpreted by
+ * {@link therian.operator.copy.PropertyCopier}. Generation succeeds only if every designated property has an immutable
+ * type (primitive, primitive wrapper, {@link String} or {@code enum}) on the target class to which its type on the
+ * source class is assignable as is or by boxing or unboxing alone, all accessor methods are publicly accessible, and
+ * every {@link Mapping.Value} names a property on each side. Primitive widening is not attempted, as dynamic copying
+ * does not widen either. Results, including failures, are cached per pair of classes.
+ */
+public class DirectCopyGenerator {
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String DIRECT_COPY = Type.getInternalName(DirectCopy.class);
+    private static final String COPY_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object.class),
+        Type.getType(Object.class));
+    private static final String IS_COPYABLE_DESCRIPTOR =
+        Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class));
+    private static final String CLASS_NAME_PREFIX = DirectCopy.class.getName() + "$Generated$";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    /**
+     * Defines a single generated class, resolving the classes it references to those from which it was generated.
+     */
+    private static class DefiningClassLoader extends ClassLoader {
+        private final Map<String, Class<?>> referencedClasses;
+
+        DefiningClassLoader(Map<String, Class<?>> referencedClasses) {
+            super(DirectCopy.class.getClassLoader());
+            this.referencedClasses = referencedClasses;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            final Class<?> referenced = referencedClasses.get(name);
+            return referenced == null ? super.loadClass(name, resolve) : referenced;
+        }
+
+        Class<?> define(String name, byte[] bytecode) {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+    }
+
+    /**
+     * Learn whether {@code type} is eligible for generation, i.e. whether the properties of its instances are likely
+     * to be determined by their class rather than their contents.
+     *
+     * @param type
+     * @return boolean
+     */
+    public static boolean isGeneratable(Class<?> type) {
+        return !(type.isArray() || type.isPrimitive() || type.isInterface() || Map.class.isAssignableFrom(type)
+            || Iterable.class.isAssignableFrom(type) || Iterator.class.isAssignableFrom(type)
+            || Enumeration.class.isAssignableFrom(type));
+    }
+
+    private static boolean isDirectlyAssignable(Class<?> sourceType, Class<?> targetType) {
+        if (targetType.isPrimitive()) {
+            return targetType.equals(ClassUtils.wrapperToPrimitive(sourceType)) || targetType.equals(sourceType);
+        }
+        if (!(ClassUtils.isPrimitiveWrapper(targetType) || String.class.equals(targetType) || targetType.isEnum())) {
+            return false;
+        }
+        return targetType.isAssignableFrom(ClassUtils.primitiveToWrapper(sourceType));
+    }
+
+    /**
+     * Learn whether a value read as {@code sourceType} must be unboxed to be written as {@code targetType}, such that
+     * it must not be {@code null}.
+     */
+    private static boolean isUnboxed(Class<?> sourceType, Class<?> targetType) {
+        return targetType.isPrimitive() && !sourceType.isPrimitive();
+    }
+
+    private static boolean isAccessible(Method method) {
+        return method != null && Modifier.isPublic(method.getModifiers())
+            && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+    }
+
+    private static Map<String, PropertyDescriptor> describe(Class<?> type) throws IntrospectionException {
+        final Map<String, PropertyDescriptor> result = new HashMap<>();
+        for (PropertyDescriptor pd : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+            result.put(pd.getName(), pd);
+        }
+        return result;
+    }
+
+    private final Mapping mapping;
+    private final Matching matching;
+
+    private final ClassValue<Map<Class<?>, Optional<DirectCopy>>> cache =
+        new ClassValue<Map<Class<?>, Optional<DirectCopy>>>() {
+
+            @Override
+            protected Map<Class<?>, Optional<DirectCopy>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    /**
+     * Create a new {@link DirectCopyGenerator} designating properties as does {@link BeanCopier}.
+     */
+    public DirectCopyGenerator() {
+        this(BeanCopier.class.getAnnotation(Mapping.class), BeanCopier.class.getAnnotation(Matching.class));
+    }
+
+    /**
+     * Create a new {@link DirectCopyGenerator}.
+     *
+     * @param mapping may be {@code null}
+     * @param matching may be {@code null}
+     * @throws IllegalArgumentException if both {@code mapping} and {@code matching} are {@code null}, or
+     *             {@code mapping} is empty
+     */
+    public DirectCopyGenerator(Mapping mapping, Matching matching) {
+        Validate.isTrue(mapping != null || matching != null, "neither @Mapping nor @Matching specified");
+        Validate.isTrue(mapping == null || mapping.value().length > 0, "@Mapping cannot be empty");
+        this.mapping = mapping;
+        this.matching = matching;
+    }
+
+    /**
+     * Get the {@link DirectCopy} for the specified classes, generating it if necessary.
+     *
+     * @param sourceType
+     * @param targetType
+     * @return {@link Optional} {@link DirectCopy}, empty if the classes are not eligible
+     */
+    public Optional<DirectCopy> get(Class<?> sourceType, Class<?> targetType) {
+        return cache.get(sourceType).computeIfAbsent(targetType, t -> generate(sourceType, t));
+    }
+
+    /**
+     * Get the accessor pairs for the designated properties, in the order in which a
+     * {@link therian.operator.copy.PropertyCopier} would copy them.
+     *
+     * @return {@link List}, {@code null} if any designated property cannot be copied directly
+     */
+    private List<Pair<Method, Method>> accessors(Class<?> sourceType, Class<?> targetType)
+        throws IntrospectionException {
+        final Map<String, PropertyDescriptor> sourceProperties = describe(sourceType);
+        final Map<String, PropertyDescriptor> targetProperties = describe(targetType);
+        final List<Pair<Method, Method>> result = new ArrayList<>();
+
+        if (mapping != null) {
+            for (Mapping.Value v : mapping.value()) {
+                // blank implies the bean itself, and expressions will not name a property:
+                final PropertyDescriptor sourceProperty = sourceProperties.get(StringUtils.trimToEmpty(v.from()));
+                final PropertyDescriptor targetProperty = targetProperties.get(StringUtils.trimToEmpty(v.to()));
+                if (!add(result, sourceProperty, targetProperty)) {
+                    return null;
+                }
+            }
+        }
+        if (matching != null) {
+            final Set<String> names;
+            if (matching.value().length == 0) {
+                names = new LinkedHashSet<>();
+                targetProperties.forEach((k, v) -> {
+                    if (v.getWriteMethod() != null && sourceProperties.containsKey(k)
+                        && sourceProperties.get(k).getReadMethod() != null) {
+                        names.add(k);
+                    }
+                });
+            } else {
+                names = new LinkedHashSet<>(Arrays.asList(matching.value()));
+            }
+            names.removeAll(Arrays.asList(matching.exclude()));
+            names.removeIf(StringUtils::isBlank);
+
+            for (String name : names) {
+                if (!add(result, sourceProperties.get(name), targetProperties.get(name))) {
+                    return null;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean add(List<Pair<Method, Method>> accessors, PropertyDescriptor sourceProperty,
+        PropertyDescriptor targetProperty) {
+        final Method readMethod = sourceProperty == null ? null : sourceProperty.getReadMethod();
+        final Method writeMethod = targetProperty == null ? null : targetProperty.getWriteMethod();
+        if (!isAccessible(readMethod) || !isAccessible(writeMethod)
+            || !isDirectlyAssignable(readMethod.getReturnType(), writeMethod.getParameterTypes()[0])) {
+            return false;
+        }
+        accessors.add(Pair.of(readMethod, writeMethod));
+        return true;
+    }
+
+    private Optional<DirectCopy> generate(Class<?> sourceType, Class<?> targetType) {
+        if (!isGeneratable(sourceType) || !isGeneratable(targetType)) {
+            return Optional.empty();
+        }
+        final List<Pair<Method, Method>> accessors;
+        try {
+            accessors = accessors(sourceType, targetType);
+        } catch (IntrospectionException e) {
+            return Optional.empty();
+        }
+        if (accessors == null || accessors.isEmpty()) {
+            return Optional.empty();
+        }
+        final String className = CLASS_NAME_PREFIX + COUNTER.incrementAndGet();
+        final Map<String, Class<?>> referencedClasses = new HashMap<>();
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+            className.replace('.', '/'), null, OBJECT, new String[] { DIRECT_COPY });
+
+        final MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        final MethodVisitor isCopyable =
+            cw.visitMethod(Opcodes.ACC_PUBLIC, "isCopyable", IS_COPYABLE_DESCRIPTOR, null, null);
+        isCopyable.visitCode();
+        for (Pair<Method, Method> accessor : accessors) {
+            final Method readMethod = accessor.getLeft();
+            if (!isUnboxed(readMethod.getReturnType(), accessor.getRight().getParameterTypes()[0])) {
+                continue;
+            }
+            final Label notNull = new Label();
+            isCopyable.visitVarInsn(Opcodes.ALOAD, 1);
+            isCopyable.visitTypeInsn(Opcodes.CHECKCAST, reference(readMethod.getDeclaringClass(), referencedClasses));
+            invoke(isCopyable, readMethod, referencedClasses);
+            isCopyable.visitJumpInsn(Opcodes.IFNONNULL, notNull);
+            isCopyable.visitInsn(Opcodes.ICONST_0);
+            isCopyable.visitInsn(Opcodes.IRETURN);
+            isCopyable.visitLabel(notNull);
+        }
+        isCopyable.visitInsn(Opcodes.ICONST_1);
+        isCopyable.visitInsn(Opcodes.IRETURN);
+        isCopyable.visitMaxs(0, 0);
+        isCopyable.visitEnd();
+
+        final MethodVisitor copy = cw.visitMethod(Opcodes.ACC_PUBLIC, "copy", COPY_DESCRIPTOR, null, null);
+        copy.visitCode();
+        for (Pair<Method, Method> accessor : accessors) {
+            final Method readMethod = accessor.getLeft();
+            final Method writeMethod = accessor.getRight();
+
+            copy.visitVarInsn(Opcodes.ALOAD, 2);
+            copy.visitTypeInsn(Opcodes.CHECKCAST, reference(writeMethod.getDeclaringClass(), referencedClasses));
+            copy.visitVarInsn(Opcodes.ALOAD, 1);
+            copy.visitTypeInsn(Opcodes.CHECKCAST, reference(readMethod.getDeclaringClass(), referencedClasses));
+            invoke(copy, readMethod, referencedClasses);
+            convert(copy, readMethod.getReturnType(), writeMethod.getParameterTypes()[0]);
+            invoke(copy, writeMethod, referencedClasses);
+
+            final Class<?> writeReturnType = writeMethod.getReturnType();
+            if (!void.class.equals(writeReturnType)) {
+                copy.visitInsn(long.class.equals(writeReturnType) || double.class.equals(writeReturnType)
+                    ? Opcodes.POP2 : Opcodes.POP);
+            }
+        }
+        copy.visitInsn(Opcodes.RETURN);
+        copy.visitMaxs(0, 0);
+        copy.visitEnd();
+        cw.visitEnd();
+
+        try {
+            final Class<?> generated = new DefiningClassLoader(referencedClasses).define(className, cw.toByteArray());
+            return Optional.of((DirectCopy) generated.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Box or unbox the value atop the stack as needed to write as {@code writeType}, to which {@code readType} must be
+     * {@link #isDirectlyAssignable(Class, Class) directly assignable}.
+     */
+    private static void convert(MethodVisitor mv, Class<?> readType, Class<?> writeType) {
+        if (!writeType.isPrimitive()) {
+            if (readType.isPrimitive()) {
+                // box:
+                final Class<?> wrapper = ClassUtils.primitiveToWrapper(readType);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(wrapper), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(wrapper), Type.getType(readType)), false);
+            }
+            return;
+        }
+        if (!readType.isPrimitive()) {
+            // unbox:
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(readType), writeType.getName() + "Value",
+                Type.getMethodDescriptor(Type.getType(writeType)), false);
+        }
+    }
+
+    private static String reference(Class<?> type, Map<String, Class<?>> referencedClasses) {
+        if (!type.isPrimitive()) {
+            referencedClasses.put(type.getName(), type);
+        }
+        return Type.getInternalName(type);
+    }
+
+    private static void invoke(MethodVisitor mv, Method method, Map<String, Class<?>> referencedClasses) {
+        final Class<?> owner = method.getDeclaringClass();
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            reference(parameterType, referencedClasses);
+        }
+        reference(method.getReturnType(), referencedClasses);
+
+        mv.visitMethodInsn(owner.isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+            reference(owner, referencedClasses), method.getName(), Type.getMethodDescriptor(method),
+            owner.isInterface());
+    }
+}
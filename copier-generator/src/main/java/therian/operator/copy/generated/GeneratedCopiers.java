@@ -0,0 +1,63 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.copy.generated;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import therian.Therian;
+import therian.TherianModule;
+
+/**
+ * Entry point for generated copiers. Because {@link GeneratedBeanCopier} handles the same {@link therian.Operation}
+ * type as {@link therian.operator.copy.BeanCopier}, it must be registered first in order to take precedence;
+ * {@link #usingModules(TherianModule...)} takes care of this. Note that generated copiers bypass the
+ * {@link therian.Operator}s and {@link javax.el.ELResolver}s, including those of the additional modules, that would
+ * otherwise take part in copying the properties concerned; see {@link GeneratedPropertyCopier}.
+ */
+public class GeneratedCopiers {
+
+    /**
+     * Get a {@link TherianModule} providing a {@link GeneratedBeanCopier}. This should precede any module providing
+     * the standard {@link therian.Operator}s.
+     *
+     * @return {@link TherianModule}
+     */
+    public static TherianModule module() {
+        return TherianModule.create().withOperators(new GeneratedBeanCopier());
+    }
+
+    /**
+     * Get a {@link Therian} instance configured as {@link Therian#standard()}, but with generated copiers taking
+     * precedence, plus {@code modules}. Bean copies to which {@code modules} should contribute, e.g. by way of custom
+     * {@link therian.operator.convert.Converter}s for property values, must specify
+     * {@link therian.operator.copy.PropertyCopier.Planning#DYNAMIC}.
+     *
+     * @param modules additional
+     * @return {@link Therian}
+     */
+    public static Therian usingModules(TherianModule... modules) {
+        final List<TherianModule> allModules = new ArrayList<>();
+        allModules.add(module());
+        allModules.add(Therian.standardModule());
+        Collections.addAll(allModules, modules);
+        return Therian.usingModules(allModules.toArray(new TherianModule[allModules.size()]));
+    }
+
+    private GeneratedCopiers() {
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.copy.generated;
+
+import java.util.Optional;
+
+import therian.OperationException;
+import therian.OperatorDefinitionException;
+import therian.TherianContext;
+import therian.operation.Copy;
+import therian.operator.convert.NOPConverter;
+import therian.operator.copy.Copier;
+import therian.operator.copy.PropertyCopier;
+import therian.operator.copy.PropertyCopier.Mapping;
+import therian.operator.copy.PropertyCopier.Matching;
+
+/**
+ * Copies between beans using a {@link DirectCopy} generated per the {@link Mapping} and/or {@link Matching} specified
+ * on the concrete subclass, for those pairs of bean classes supported by {@link DirectCopyGenerator}. It declines
+ * anything else, leaving such copies to an equivalent {@link PropertyCopier}, which must therefore be registered as
+ * well. Property values are copied as is, boxed or unboxed if need be, without consulting any other
+ * {@link therian.Operator} or {@link javax.el.ELResolver}; the result matches that of the {@link PropertyCopier} only
+ * where that would have copied each value likewise, e.g. with no {@link therian.operator.convert.Converter} applying
+ * to it other than {@link NOPConverter}. Unlike {@link PropertyCopier}, this operator plans its copies by default;
+ * specify {@link PropertyCopier.Planning#DYNAMIC} to defer to the {@link PropertyCopier}.
+ *
+ * @param <SOURCE>
+ * @param <TARGET>
+ * @see GeneratedCopiers
+ */
+public abstract class GeneratedPropertyCopier<SOURCE, TARGET> extends Copier<SOURCE, TARGET> {
+    private final DirectCopyGenerator generator;
+
+    protected GeneratedPropertyCopier() {
+        try {
+            @SuppressWarnings("rawtypes")
+            final Class<? extends GeneratedPropertyCopier> c = getClass();
+            generator = new DirectCopyGenerator(c.getAnnotation(Mapping.class), c.getAnnotation(Matching.class));
+        } catch (Exception e) {
+            throw new OperatorDefinitionException(this, e);
+        }
+    }
+
+    @Override
+    public boolean perform(TherianContext context, Copy<? extends SOURCE, ? extends TARGET> copy) {
+        final Object source = copy.getSourcePosition().getValue();
+        final Object target = copy.getTargetPosition().getValue();
+        final Optional<DirectCopy> directCopy = directCopy(source, target);
+        if (!directCopy.isPresent()) {
+            return false;
+        }
+        try {
+            directCopy.get().copy(source, target);
+        } catch (RuntimeException e) {
+            throw new OperationException(copy, e);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean supports(TherianContext context, Copy<? extends SOURCE, ? extends TARGET> copy) {
+        if (!super.supports(context, copy)) {
+            return false;
+        }
+        if (context.getTypedContext(PropertyCopier.Planning.class,
+            PropertyCopier.Planning.COMPILED) != PropertyCopier.Planning.COMPILED) {
+            return false;
+        }
+        // null property values are copied as such only by default:
+        if (context.getTypedContext(NOPConverter.NullBehavior.class,
+            NOPConverter.NullBehavior.DEFAULT) != NOPConverter.NullBehavior.DEFAULT) {
+            return false;
+        }
+        final Object source = copy.getSourcePosition().getValue();
+        return directCopy(source, copy.getTargetPosition().getValue()).filter(d -> d.isCopyable(source)).isPresent();
+    }
+
+    private Optional<DirectCopy> directCopy(Object source, Object target) {
+        if (source == null || target == null) {
+            return Optional.empty();
+        }
+        return generator.get(source.getClass(), target.getClass());
+    }
+}
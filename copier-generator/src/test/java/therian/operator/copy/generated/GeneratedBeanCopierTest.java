@@ -0,0 +1,258 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.copy.generated;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import therian.TherianContext;
+import therian.TherianModule;
+import therian.operation.Copy;
+import therian.operator.copy.PropertyCopier.Mapping;
+import therian.operator.copy.PropertyCopier.Planning;
+import therian.util.Positions;
+
+public class GeneratedBeanCopierTest {
+    public enum Color {
+        RED, GREEN;
+    }
+
+    public static class Source {
+        private String name;
+        private int count;
+        private Color color;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public Color getColor() {
+            return color;
+        }
+
+        public void setColor(Color color) {
+            this.color = color;
+        }
+    }
+
+    public static class Target {
+        private String name;
+        private Integer count;
+        private Color color;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+
+        public Color getColor() {
+            return color;
+        }
+
+        public void setColor(Color color) {
+            this.color = color;
+        }
+    }
+
+    public static class Wide {
+        private long count;
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+
+    public static class Labeled {
+        private String label;
+        private int count;
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
+    public static class Holder {
+        private Source source;
+
+        public Source getSource() {
+            return source;
+        }
+
+        public void setSource(Source source) {
+            this.source = source;
+        }
+    }
+
+    @Mapping(@Mapping.Value(from = "name", to = "label"))
+    public static class NameToLabel extends GeneratedPropertyCopier<Source, Labeled> {
+    }
+
+    private DirectCopyGenerator generator;
+    private TherianContext therianContext;
+
+    @Before
+    public void setup() {
+        generator = new DirectCopyGenerator();
+        therianContext = GeneratedCopiers.usingModules().context();
+    }
+
+    @Test
+    public void testGenerate() {
+        assertTrue(generator.get(Source.class, Target.class).isPresent());
+        assertTrue(generator.get(Source.class, Source.class).isPresent());
+        assertTrue(generator.get(Target.class, Source.class).isPresent());
+        assertFalse(generator.get(Source.class, Wide.class).isPresent());
+        assertFalse(generator.get(Wide.class, Source.class).isPresent());
+        assertTrue(generator.get(Wide.class, Wide.class).isPresent());
+        assertFalse(generator.get(Holder.class, Holder.class).isPresent());
+        assertEquals(generator.get(Source.class, Target.class), generator.get(Source.class, Target.class));
+    }
+
+    @Test
+    public void testDirectCopy() {
+        final Source source = new Source();
+        source.setName("foo");
+        source.setCount(42);
+        source.setColor(Color.GREEN);
+
+        final Target target = new Target();
+        generator.get(Source.class, Target.class).get().copy(source, target);
+        assertEquals("foo", target.getName());
+        assertEquals(Integer.valueOf(42), target.getCount());
+        assertEquals(Color.GREEN, target.getColor());
+
+        final Source copy = new Source();
+        assertTrue(generator.get(Target.class, Source.class).get().isCopyable(target));
+        generator.get(Target.class, Source.class).get().copy(target, copy);
+        assertEquals(42, copy.getCount());
+
+        target.setCount(null);
+        assertFalse(generator.get(Target.class, Source.class).get().isCopyable(target));
+    }
+
+    @Test
+    public void testCopy() {
+        final Source source = new Source();
+        source.setName("foo");
+        source.setCount(42);
+
+        final Target target = new Target();
+        target.setName("bar");
+        target.setColor(Color.RED);
+        assertTrue(therianContext.evalSuccess(Copy.to(Positions.readOnly(target), Positions.readOnly(source))));
+        assertEquals("foo", target.getName());
+        assertEquals(Integer.valueOf(42), target.getCount());
+        assertNull(target.getColor());
+    }
+
+    @Test
+    public void testFallback() {
+        final Source source = new Source();
+        source.setName("foo");
+        final Holder holder = new Holder();
+        holder.setSource(source);
+        final Holder target = new Holder();
+        assertTrue(therianContext.evalSuccess(Copy.to(Positions.readOnly(target), Positions.readOnly(holder))));
+        assertEquals("foo", target.getSource().getName());
+    }
+
+    @Test
+    public void testFallbackOnNullToUnbox() {
+        final Target source = new Target();
+        source.setName("foo");
+        final Source target = new Source();
+        target.setCount(42);
+        assertTrue(therianContext.evalSuccess(Copy.to(Positions.readOnly(target), Positions.readOnly(source))));
+        assertEquals("foo", target.getName());
+    }
+
+    @Test
+    public void testMapping() {
+        final Source source = new Source();
+        source.setName("foo");
+        source.setCount(42);
+        final Labeled target = new Labeled();
+        assertTrue(GeneratedCopiers.usingModules(TherianModule.create().withOperators(new NameToLabel())).context()
+            .evalSuccess(Copy.to(Positions.readOnly(target), Positions.readOnly(source))));
+        assertEquals("foo", target.getLabel());
+        assertEquals(0, target.getCount());
+    }
+
+    @Test
+    public void testNoWidening() {
+        final Source source = new Source();
+        source.setCount(42);
+        final Wide planned = new Wide();
+        final Wide dynamic = new Wide();
+        therianContext.evalSuccess(Copy.to(Positions.readOnly(planned), Positions.readOnly(source)));
+        therianContext.evalSuccess(Copy.to(Positions.readOnly(dynamic), Positions.readOnly(source)), Planning.DYNAMIC);
+        assertEquals(dynamic.getCount(), planned.getCount());
+    }
+
+    @Test
+    public void testDynamic() {
+        final Source source = new Source();
+        source.setName("foo");
+        final Target target = new Target();
+        assertTrue(therianContext.evalSuccess(Copy.to(Positions.readOnly(target), Positions.readOnly(source)),
+            Planning.DYNAMIC));
+        assertEquals("foo", target.getName());
+    }
+}
@@ -18,11 +18,13 @@ package therian;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
@@ -30,6 +32,8 @@ import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
 import therian.behavior.Caching;
+import therian.util.BoundedCache;
+import therian.util.InternedTypes;
 import therian.util.Types;
 
 /**
@@ -57,6 +61,10 @@ public abstract class Operation<RESULT> {
                 : Arrays.deepHashCode(ArrayUtils.insert(0, discriminator, genericType));
         }
 
+        Type getGenericType() {
+            return genericType;
+        }
+
         @Override
         public int hashCode() {
             return hashCode;
@@ -83,35 +91,82 @@ public abstract class Operation<RESULT> {
 
     private static final TypeVariable<?> TYPE_VARIABLE_RESULT = Operation.class.getTypeParameters()[0];
 
-    private static final Map<Class<?>, Boolean> VALID_INFO = new HashMap<>();
+    /**
+     * Approximate maximum number of distinct generic types retained per {@link Operation} class.
+     */
+    private static final int GENERIC_TYPE_CACHE_SIZE = 256;
 
-    private static boolean init(Class<?> type) {
-        final boolean valid;
-        synchronized (type) {
-            if (VALID_INFO.containsKey(type)) {
-                valid = VALID_INFO.get(type).booleanValue();
-            } else if (Modifier.isAbstract(type.getModifiers())) {
-                valid = true;
+    /**
+     * Per-class recipe for {@link Operation#getGenericType()}: a reader for the binding of each type parameter, and the
+     * generic types built so far, so that operations with structurally equal generic types share a single instance.
+     */
+    private static class ProfileRecipe {
+        final Class<?> raw;
+        final List<Function<Object, Type>> readers;
+        final BoundedCache<List<Type>, Type> genericTypes;
+
+        ProfileRecipe(Class<?> raw) {
+            this.raw = raw;
+            final TypeVariable<?>[] typeParameters = raw.getTypeParameters();
+            if (typeParameters.length == 0) {
+                readers = Collections.emptyList();
+                genericTypes = null;
             } else {
-                final Type resultType =
-                    TypeUtils.unrollVariables(TypeUtils.getTypeArguments(type, Operation.class), TYPE_VARIABLE_RESULT);
-                valid = !TypeUtils.containsTypeVariables(resultType);
-                Validate.isTrue(valid, "%s does not fully bind type parameter %s from %s", type,
-                    TYPE_VARIABLE_RESULT.getName(), Operation.class);
-                VALID_INFO.put(type, Boolean.valueOf(valid));
+                final List<Function<Object, Type>> readers = new ArrayList<>(typeParameters.length);
+                for (TypeVariable<?> var : typeParameters) {
+                    readers.add(Types.getTypedReader(raw, var));
+                }
+                this.readers = Collections.unmodifiableList(readers);
+                genericTypes = new BoundedCache<>(GENERIC_TYPE_CACHE_SIZE);
             }
         }
-        final Class<?> parent = type.getSuperclass();
-        if (!Operation.class.equals(parent)) {
-            init(parent.asSubclass(Operation.class));
+
+        Type genericType(Operation<?> operation) {
+            if (readers.isEmpty()) {
+                return raw;
+            }
+            final Type[] parameters = new Type[readers.size()];
+            for (int i = 0; i < parameters.length; i++) {
+                final Function<Object, Type> reader = readers.get(i);
+                parameters[i] = reader == null ? null : reader.apply(operation);
+            }
+            return genericTypes.computeIfAbsent(Arrays.asList(parameters),
+                k -> InternedTypes.parameterize(raw, parameters));
         }
-        return valid;
     }
 
+    private static final ClassValue<ProfileRecipe> PROFILE_RECIPES = new ClassValue<ProfileRecipe>() {
+
+        @Override
+        protected ProfileRecipe computeValue(Class<?> type) {
+            return new ProfileRecipe(type);
+        }
+    };
+
+    /**
+     * Validates each {@link Operation} class, along with its superclasses, once.
+     */
+    private static final ClassValue<Boolean> VALID = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (!Modifier.isAbstract(type.getModifiers())) {
+                final Type resultType =
+                    TypeUtils.unrollVariables(TypeUtils.getTypeArguments(type, Operation.class), TYPE_VARIABLE_RESULT);
+                Validate.isTrue(!TypeUtils.containsTypeVariables(resultType),
+                    "%s does not fully bind type parameter %s from %s", type, TYPE_VARIABLE_RESULT.getName(),
+                    Operation.class);
+            }
+            final Class<?> parent = type.getSuperclass();
+            if (!Operation.class.equals(parent)) {
+                get(parent);
+            }
+            return Boolean.TRUE;
+        }
+    };
+
     {
-        @SuppressWarnings("unchecked")
-        final Class<? extends Operation<?>> c = (Class<? extends Operation<?>>) getClass();
-        Validate.isTrue(init(c), "Invalid %s: %s", Operation.class.getName(), c);
+        VALID.get(getClass());
     }
 
     private boolean successful;
@@ -191,6 +246,17 @@ public abstract class Operation<RESULT> {
         return new Profile(genericType);
     }
 
+    /**
+     * Get value-dependent facts which, together with the {@link Profile} of this {@link Operation}, determine whether
+     * it is supported by {@link Operator}s declared {@link Reusable#byProfile()}.
+     *
+     * @return Object[], by default empty
+     * @since 0.7
+     */
+    protected Object[] getSupportDiscriminator() {
+        return ArrayUtils.EMPTY_OBJECT_ARRAY;
+    }
+
     final Profile getProfile() {
         if (profile == null) {
             synchronized (this) {
@@ -204,25 +270,14 @@ public abstract class Operation<RESULT> {
 
     /**
      * Get the "generic type" of this {@link Operation}, which parameterizes the narrowest type with the runtime
-     * bindings of its declared type variables, if any.
+     * bindings of its declared type variables, if any, as read by way of {@link BindTypeVariable} methods located
+     * once per class.
      * 
      * @return Type
-     * @see Types#resolveAt(Object, TypeVariable)
+     * @see Types#getTypedReader(Class, TypeVariable)
      */
     private final Type getGenericType() {
-        final Class<?> raw = getClass();
-        final TypeVariable<?>[] typeParameters = raw.getTypeParameters();
-        if (ArrayUtils.isEmpty(typeParameters)) {
-            return raw;
-        }
-        final Type[] parameters = new Type[typeParameters.length];
-
-        // use empty type variable map because we're relying on @BindTypeVariable functionality:
-        final Map<TypeVariable<?>, Type> typeVariableMap = Collections.emptyMap();
-        for (int i = 0; i < parameters.length; i++) {
-            parameters[i] = Types.resolveAt(this, typeParameters[i], typeVariableMap);
-        }
-        return TypeUtils.parameterize(raw, parameters);
+        return PROFILE_RECIPES.get(getClass()).genericType(this);
     }
 
 }
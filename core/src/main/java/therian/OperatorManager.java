@@ -15,20 +15,25 @@
  */
 package therian;
 
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.apache.commons.lang3.ClassUtils;
@@ -38,6 +43,8 @@ import org.slf4j.Logger;
 
 import therian.Operator.DependsOn;
 import therian.behavior.Caching;
+import therian.util.Assignability;
+import therian.util.BoundedCache;
 import therian.util.Types;
 
 /**
@@ -46,6 +53,7 @@ import therian.util.Types;
  * <ul>
  * <li>Caches expected operation type per {@link Operator} instance</li>
  * <li>breaks operators into subgroups by raw operation type</li>
+ * <li>indexes operators by raw operation type and the raw types of bound type variables</li>
  * </ul>
  */
 class OperatorManager {
@@ -66,16 +74,66 @@ class OperatorManager {
             throw new IllegalArgumentException();
         }
 
+        /**
+         * Get the raw type to which any type assignable to {@code type} must itself be assignable, or {@code null} if
+         * this cannot be cheaply and reliably determined.
+         */
+        static Class<?> getRawBound(Type type) {
+            if (type instanceof Class<?>) {
+                final Class<?> c = (Class<?>) type;
+                return c.isPrimitive() || Object.class.equals(c) ? null : c;
+            }
+            if (type instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) type).getRawType();
+            }
+            if (type instanceof WildcardType) {
+                return getRawBound(TypeUtils.getImplicitUpperBounds((WildcardType) type)[0]);
+            }
+            return null;
+        }
+
         final Operator operator;
         final Type targetType;
         final Class<?> rawTargetType;
 
+        /**
+         * Type variables of {@link #rawTargetType} and its superclasses, up to {@link Operation}.
+         */
+        final TypeVariable<?>[] variables;
+
+        /**
+         * Type assigned to each of {@link #variables} by {@link #targetType}.
+         */
+        final Type[] variableTypes;
+
+        /**
+         * Raw bound of each of {@link #variableTypes}; see {@link #getRawBound(Type)}.
+         */
+        final Class<?>[] rawBounds;
+
         OperatorInfo(Operator operator, Type targetType) {
             this.operator = operator;
             this.targetType = targetType;
             rawTargetType = getRawType(targetType);
-        }
 
+            final Map<TypeVariable<?>, Type> operatorArgs = TypeUtils.getTypeArguments(targetType, Operation.class);
+            final List<TypeVariable<?>> vars = new ArrayList<>();
+            if (operatorArgs != null) {
+                for (Class<?> c : ClassUtils.hierarchy(rawTargetType)) {
+                    if (c.equals(Operation.class)) {
+                        break;
+                    }
+                    Collections.addAll(vars, c.getTypeParameters());
+                }
+            }
+            variables = vars.toArray(new TypeVariable<?>[vars.size()]);
+            variableTypes = new Type[variables.length];
+            rawBounds = new Class<?>[variables.length];
+            for (int i = 0; i < variables.length; i++) {
+                variableTypes[i] = TypeUtils.unrollVariables(operatorArgs, variables[i]);
+                rawBounds[i] = getRawBound(variableTypes[i]);
+            }
+        }
         /**
          * {@inheritDoc}
          */
@@ -95,49 +153,76 @@ class OperatorManager {
         private class Filter implements Predicate<OperatorInfo> {
 
             final Operation operation;
+            final Map<TypeVariable<?>, Type> operationArgs;
+
+            /**
+             * Whether every {@link Operator} that has declined {@link #operation} is
+             * {@link Caching#isReusableByProfile(Object) reusable by profile}.
+             */
+            boolean profileDetermined = true;
+
+            /**
+             * Memoized types of {@link #operation} per type variable, as these are the same for every
+             * {@link Operator} considered.
+             */
+            final Map<TypeVariable<?>, Type> resolved = new HashMap<>();
 
             Filter(Operation operation) {
                 this.operation = operation;
+                operationArgs = TypeUtils.getTypeArguments(operation.getClass(), Operation.class);
+            }
+
+            Type resolve(TypeVariable<?> var) {
+                if (resolved.containsKey(var)) {
+                    return resolved.get(var);
+                }
+                Type result = Types.resolveAt(operation, var, operationArgs);
+                if (result instanceof Class<?> && ((Class<?>) result).isPrimitive()) {
+                    result = ClassUtils.primitiveToWrapper((Class<?>) result);
+                }
+                resolved.put(var, result);
+                return result;
+            }
+
+            Class<?> resolveRaw(TypeVariable<?> var) {
+                final Type type = resolve(var);
+                if (type instanceof Class<?>) {
+                    return (Class<?>) type;
+                }
+                if (type instanceof ParameterizedType || type instanceof GenericArrayType) {
+                    return TypeUtils.getRawType(type, null);
+                }
+                return null;
             }
 
-            @SuppressWarnings("unchecked")
             @Override
             public boolean test(OperatorInfo info) {
-                if (matches(operation, info)) {
-                    return info.operator.supports(context, operation);
+                return matches(info) && supports(info.operator);
+            }
+
+            @SuppressWarnings("unchecked")
+            boolean supports(Operator operator) {
+                if (operator.supports(context, operation)) {
+                    return true;
+                }
+                if (profileDetermined && !Caching.isReusableByProfile(operator)) {
+                    profileDetermined = false;
                 }
                 return false;
             }
 
-            private boolean matches(Operation operation, OperatorInfo operatorInfo) {
-                if (!TypeUtils.isInstance(operation, operatorInfo.targetType)) {
+            private boolean matches(OperatorInfo operatorInfo) {
+                if (!parent.getAssignability().isInstance(operation, operatorInfo.targetType)) {
                     return false;
                 }
-                final Map<TypeVariable<?>, Type> operationArgs =
-                    TypeUtils.getTypeArguments(operation.getClass(), Operation.class);
-
-                final Map<TypeVariable<?>, Type> operatorArgs =
-                    TypeUtils.getTypeArguments(operatorInfo.targetType, Operation.class);
-
-                if (operatorArgs != null) {
-                    for (Class<?> c : ClassUtils.hierarchy(operatorInfo.rawTargetType)) {
-                        if (c.equals(Operation.class)) {
-                            break;
-                        }
-                        for (TypeVariable<?> var : c.getTypeParameters()) {
-                            Type operationVariableType = Types.resolveAt(operation, var, operationArgs);
-                            if (operationVariableType == null) {
-                                continue;
-                            }
-                            if (operationVariableType instanceof Class<?>
-                                && ((Class<?>) operationVariableType).isPrimitive()) {
-                                operationVariableType = ClassUtils.primitiveToWrapper((Class<?>) operationVariableType);
-                            }
-                            final Type operatorVariableType = TypeUtils.unrollVariables(operatorArgs, var);
-                            if (!TypeUtils.isAssignable(operationVariableType, operatorVariableType)) {
-                                return false;
-                            }
-                        }
+                for (int i = 0; i < operatorInfo.variables.length; i++) {
+                    final Type operationVariableType = resolve(operatorInfo.variables[i]);
+                    if (operationVariableType == null) {
+                        continue;
+                    }
+                    if (!parent.getAssignability().isAssignable(operationVariableType,
+                        operatorInfo.variableTypes[i])) {
+                        return false;
                     }
                 }
                 return true;
@@ -150,27 +235,55 @@ class OperatorManager {
             this.context = context;
         }
 
-        Iterable<Operator<?>> operatorsSupporting(final Operation<?> operation) {
-            final Filter filter = new Filter(operation);
-            final Iterator<Class<?>> hierarchy = ClassUtils.hierarchy(operation.getClass()).iterator();
+        /**
+         * {@link Operator}s supporting a given {@link Operation}.
+         */
+        class Supporting implements Iterable<Operator<?>> {
+            private final Filter filter;
 
-            return () -> new Iterator<Operator<?>>() {
+            Supporting(Filter filter) {
+                this.filter = filter;
+            }
+
+            @Override
+            public Iterator<Operator<?>> iterator() {
+                return operatorIterator(filter);
+            }
+
+            /**
+             * Learn whether each {@link Operator} that has so far declined to support the {@link Operation} did so
+             * in a manner reusable for its {@link Operation.Profile}.
+             *
+             * @return boolean
+             */
+            boolean isProfileDetermined() {
+                return filter.profileDetermined;
+            }
+        }
+
+        Supporting operatorsSupporting(final Operation<?> operation) {
+            return new Supporting(new Filter(operation));
+        }
+
+        private Iterator<Operator<?>> operatorIterator(final Filter filter) {
+            final Operation<?> operation = filter.operation;
+
+            return new Iterator<Operator<?>>() {
 
                 @SuppressWarnings("rawtypes")
-                Iterator<Operator> currentInfo = cachedOperator(operation);
+                Iterator<Operator> currentInfo = cachedOperator(filter);
+
+                boolean candidatesVisited;
 
                 @Override
                 public boolean hasNext() {
                     while (currentInfo == null || !currentInfo.hasNext()) {
-                        if (hierarchy.hasNext()) {
-                            final Class<?> c = hierarchy.next();
-                            if (subgroups.containsKey(c)) {
-                                currentInfo = subgroups.get(c).stream().filter(filter)
-                                    .map(OperatorInfo::getOperator).iterator();
-                            }
-                            continue;
+                        if (candidatesVisited) {
+                            return false;
                         }
-                        return false;
+                        candidatesVisited = true;
+                        currentInfo = dispatch.get(operation.getClass()).candidates(filter).stream().filter(filter)
+                            .map(OperatorInfo::getOperator).iterator();
                     }
                     return true;
                 }
@@ -190,15 +303,49 @@ class OperatorManager {
             };
         }
 
-        @SuppressWarnings({ "rawtypes", "unchecked" })
-        Iterator<Operator> cachedOperator(Operation<?> operation) {
-            final Operator operator = operatorCache.get(operation.getProfile());
-            if (operator != null && operator.supports(context, operation)) {
+        @SuppressWarnings("rawtypes")
+        private Iterator<Operator> cachedOperator(Filter filter) {
+            final Operator operator = operatorCache.get(filter.operation.getProfile());
+            if (operator != null && filter.supports(operator)) {
                 return Collections.singleton(operator).iterator();
             }
             return null;
         }
 
+        /**
+         * Learn whether {@code operation} has been found unsupported in a manner reusable for its
+         * {@link Operation.Profile}. Only looked up where some candidate {@link Operator} is
+         * {@link Caching#isReusableByProfile(Object) reusable by profile}, as otherwise nothing will have been
+         * remembered.
+         *
+         * @param operation
+         * @param hints effective
+         * @return boolean
+         */
+        boolean isKnownUnsupported(Operation<?> operation, Set<Hint> hints) {
+            if (dispatch.get(operation.getClass()).reusableByProfile
+                && parent.getBehavior(Caching.class, Caching.ALL).implies(Caching.THERIAN)) {
+                return unsupportedCache.get(new UnsupportedKey(operation, hints)) != null;
+            }
+            return false;
+        }
+
+        /**
+         * Notify the {@link OperatorManager} that {@code operation} was found unsupported; this is remembered only if
+         * every declining {@link Operator} was {@link Caching#isReusableByProfile(Object) reusable by profile}, and
+         * some candidate {@link Operator} is.
+         *
+         * @param operation
+         * @param hints effective
+         * @param supporting the exhausted {@link Supporting} instance
+         */
+        void recordUnsupported(Operation<?> operation, Set<Hint> hints, Supporting supporting) {
+            if (supporting.isProfileDetermined() && dispatch.get(operation.getClass()).reusableByProfile
+                && parent.getBehavior(Caching.class, Caching.ALL).implies(Caching.THERIAN)) {
+                unsupportedCache.put(new UnsupportedKey(operation, hints), Boolean.TRUE);
+            }
+        }
+
         /**
          * Notify the {@link OperatorManager} that the specified {@link Operator} was recorded as having been used for
          * {@link Operation}.
@@ -210,6 +357,110 @@ class OperatorManager {
         }
     }
 
+    /**
+     * Key for remembering an unsupported {@link Operation}.
+     */
+    private static class UnsupportedKey {
+        final Operation.Profile profile;
+        final Set<Hint> hints;
+        final Object[] discriminator;
+        final int hashCode;
+
+        UnsupportedKey(Operation<?> operation, Set<Hint> hints) {
+            this.profile = operation.getProfile();
+            this.hints = hints;
+            this.discriminator = operation.getSupportDiscriminator();
+            hashCode = Objects.hash(profile, hints, Integer.valueOf(Arrays.hashCode(discriminator)));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof UnsupportedKey)) {
+                return false;
+            }
+            final UnsupportedKey other = (UnsupportedKey) obj;
+            return hashCode == other.hashCode && profile.equals(other.profile) && hints.equals(other.hints)
+                && Arrays.equals(discriminator, other.discriminator);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Dispatch index for a given {@link Operation} class: lists, in order, the {@link OperatorInfo}s whose raw target
+     * types are assignable from that class, then narrows these by the raw types the {@link Operation} assigns to the
+     * type variables involved, such that most {@link Operator}s that could never apply are rejected by a single hash
+     * lookup rather than by full generic type checks.
+     */
+    private class Dispatch {
+        final List<OperatorInfo> candidates;
+        final List<TypeVariable<?>> variables;
+        final Map<List<Class<?>>, List<OperatorInfo>> byRawTypes = new ConcurrentHashMap<>();
+
+        /**
+         * Whether any candidate is {@link Caching#isReusableByProfile(Object) reusable by profile}.
+         */
+        final boolean reusableByProfile;
+
+        Dispatch(Class<?> operationType) {
+            final List<OperatorInfo> infos = new ArrayList<>();
+            final Set<TypeVariable<?>> vars = new LinkedHashSet<>();
+
+            for (Class<?> c : ClassUtils.hierarchy(operationType)) {
+                final Collection<OperatorInfo> subgroup = subgroups.get(c);
+                if (subgroup == null) {
+                    continue;
+                }
+                for (OperatorInfo info : subgroup) {
+                    infos.add(info);
+                    for (int i = 0; i < info.variables.length; i++) {
+                        if (info.rawBounds[i] != null) {
+                            vars.add(info.variables[i]);
+                        }
+                    }
+                }
+            }
+            candidates = Collections.unmodifiableList(infos);
+            variables = Collections.unmodifiableList(new ArrayList<>(vars));
+            reusableByProfile = infos.stream().anyMatch(info -> Caching.isReusableByProfile(info.operator));
+        }
+
+        List<OperatorInfo> candidates(SupportChecker.Filter filter) {
+            if (variables.isEmpty()) {
+                return candidates;
+            }
+            final Class<?>[] rawTypes = new Class<?>[variables.size()];
+            for (int i = 0; i < rawTypes.length; i++) {
+                rawTypes[i] = filter.resolveRaw(variables.get(i));
+            }
+            return byRawTypes.computeIfAbsent(Arrays.asList(rawTypes), this::admitting);
+        }
+
+        private List<OperatorInfo> admitting(List<Class<?>> rawTypes) {
+            final List<OperatorInfo> result = new ArrayList<>();
+            nextInfo: for (OperatorInfo info : candidates) {
+                for (int i = 0; i < info.variables.length; i++) {
+                    final Class<?> rawBound = info.rawBounds[i];
+                    if (rawBound == null) {
+                        continue;
+                    }
+                    final Class<?> rawType = rawTypes.get(variables.indexOf(info.variables[i]));
+                    if (rawType != null && !rawBound.isAssignableFrom(rawType)) {
+                        continue nextInfo;
+                    }
+                }
+                result.add(info);
+            }
+            return result.size() == candidates.size() ? candidates : Collections.unmodifiableList(result);
+        }
+    }
+
     private static void validate(Set<Operator<?>> operators) {
         final Set<Class<?>> operatorsPresent = new HashSet<>();
         final Set<Class<?>> operatorsNeeded = new HashSet<>();
@@ -231,9 +482,9 @@ class OperatorManager {
         Validate.isTrue(operatorsNeeded.isEmpty(), "Missing required operators: %s", operatorsNeeded);
     }
 
-    private static List<OperatorInfo> buildOperatorInfos(Set<Operator<?>> operators) {
+    private static List<OperatorInfo> buildOperatorInfos(Set<Operator<?>> operators, Assignability assignability) {
         final List<OperatorInfo> result = new ArrayList<>(operators.size());
-        for (Map.Entry<Operator<?>, Type> entry : new Operators(operators).entrySet()) {
+        for (Map.Entry<Operator<?>, Type> entry : new Operators(operators, assignability).entrySet()) {
             result.add(new OperatorInfo(entry.getKey(), entry.getValue()));
         }
         return result;
@@ -261,22 +512,47 @@ class OperatorManager {
         return result;
     }
 
+    /**
+     * Maximum number of {@link Operation.Profile}s for which to remember an {@link Operator}.
+     */
+    static final int OPERATOR_CACHE_SIZE = 4096;
+
     private final Therian parent;
     private final List<OperatorInfo> operatorInfos;
     private final Map<Class<?>, Collection<OperatorInfo>> subgroups;
     private final Logger logger;
 
+    private final ClassValue<Dispatch> dispatch = new ClassValue<Dispatch>() {
+
+        @Override
+        protected Dispatch computeValue(Class<?> type) {
+            return new Dispatch(type);
+        }
+    };
+
     /**
      * See {@link Caching#ALL}
      */
-    private final Map<Operation.Profile, Operator<?>> operatorCache = new HashMap<>();
+    private final BoundedCache<Operation.Profile, Operator<?>> operatorCache =
+        new BoundedCache<>(OPERATOR_CACHE_SIZE);
+
+    /**
+     * See {@link Caching#THERIAN}, {@link Reusable#byProfile()}. Of the standard {@link Operator}s, only some
+     * handling {@link therian.operation.GetElementType} declare the latter; this cache is therefore inert for other
+     * standard operations, e.g. {@link therian.operation.Copy} and {@link therian.operation.Convert}.
+     */
+    private final BoundedCache<UnsupportedKey, Boolean> unsupportedCache = new BoundedCache<>(OPERATOR_CACHE_SIZE);
 
     OperatorManager(Therian parent, Set<Operator<?>> operators) {
         this.parent = Validate.notNull(parent, "parent");
         validate(operators);
-        operatorInfos = Collections.unmodifiableList(buildOperatorInfos(operators));
+        operatorInfos = Collections.unmodifiableList(buildOperatorInfos(operators, parent.getAssignability()));
         subgroups = Collections.unmodifiableMap(buildOperatorInfoSubgroups(operatorInfos));
         logger = parent.getLogger(getClass());
         logger.debug("{} created; operator subgroups map: {}", getClass().getSimpleName(), subgroups);
     }
+
+    BoundedCache.Stats getOperatorCacheStats() {
+        return operatorCache.getStats();
+    }
 }
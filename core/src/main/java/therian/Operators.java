@@ -31,6 +31,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
+import therian.util.Assignability;
 import therian.util.Types;
 
 /**
@@ -71,12 +72,22 @@ public class Operators extends AbstractMap<Operator<?>, Type> {
 
     private final ListOrderedMap<Operator<?>, Type> contents = ListOrderedMap.listOrderedMap(new IdentityHashMap<>());
 
+    /**
+     * Shared by the owning {@link Therian}, if any.
+     */
+    private final Assignability assignability;
+
     public Operators(Operator<?>... operators) {
         this(Arrays.asList(operators));
     }
 
     public Operators(Collection<? extends Operator<?>> c) {
+        this(c, null);
+    }
+
+    Operators(Collection<? extends Operator<?>> c, Assignability assignability) {
         super();
+        this.assignability = assignability;
         addAll(c);
     }
 
@@ -114,10 +125,10 @@ public class Operators extends AbstractMap<Operator<?>, Type> {
         if (t1 == t2 || TypeUtils.equals(t1, t2)) {
             return 0;
         }
-        if (TypeUtils.isAssignable(t1, t2)) {
+        if (isAssignable(t1, t2)) {
             return -1;
         }
-        if (TypeUtils.isAssignable(t2, t1)) {
+        if (isAssignable(t2, t1)) {
             return 1;
         }
         final Class<?> raw1 = raw(t1);
@@ -154,6 +165,10 @@ public class Operators extends AbstractMap<Operator<?>, Type> {
         return steps;
     }
 
+    private boolean isAssignable(Type type, Type toType) {
+        return assignability == null ? TypeUtils.isAssignable(type, toType) : assignability.isAssignable(type, toType);
+    }
+
     private Class<?> raw(Type type) {
         if (type instanceof WildcardType) {
             final Type upper = TypeUtils.getImplicitUpperBounds((WildcardType) type)[0];
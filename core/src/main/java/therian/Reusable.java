@@ -41,4 +41,17 @@ public @interface Reusable {
      * @return {@link Phase}[]
      */
     Operator.Phase[] value() default { Operator.Phase.SUPPORT_CHECK, Operator.Phase.EVALUATION };
+
+    /**
+     * Whether the support check of the annotated {@link Operator} is determined entirely by the
+     * {@link Operation.Profile} and support discriminator of an {@link Operation} together with the effective
+     * {@link Hint}s, such that its <em>rejection</em> of one {@link Operation} may be remembered for all
+     * {@link Operation}s sharing these. Meaningful only if {@link Phase#SUPPORT_CHECK} is reusable. Operators whose
+     * support depends on values in any other way must not declare this.
+     *
+     * @return boolean
+     * @see Caching#isReusableByProfile(Object)
+     * @since 0.7
+     */
+    boolean byProfile() default false;
 }
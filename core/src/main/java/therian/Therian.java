@@ -15,6 +15,7 @@
  */
 package therian;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.function.Function;
 
 import javax.el.CompositeELResolver;
 import javax.el.ELContext;
@@ -32,11 +34,20 @@ import javax.el.ELContextListener;
 import javax.el.ELResolver;
 
 import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.apache.commons.lang3.reflect.Typed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import therian.behavior.Behavior;
+import therian.behavior.Caching;
 import therian.behavior.LoggingMode;
+import therian.el.FastBeanELResolver;
+import therian.el.TherianContextELResolver;
+import therian.operation.Convert;
+import therian.util.Assignability;
+import therian.util.BoundedCache;
+import therian.util.Positions;
 import uelbox.ELContextWrapper;
 import uelbox.IterableELResolver;
 import uelbox.SimpleELContext;
@@ -45,8 +56,9 @@ import uelbox.SimpleELContext;
  * Therian entry point.
  */
 public class Therian {
-    private static final TherianModule DEFAULT_MODULE =
-        TherianModule.create().withOperators(Operators.standard()).withELResolvers(new IterableELResolver());
+    private static final ELResolver FAST_BEAN_EL_RESOLVER = new FastBeanELResolver();
+
+    private static final TherianModule DEFAULT_MODULE = standardModule();
 
     private static final Therian STANDARD = Therian.usingModules(DEFAULT_MODULE);
     private static Therian usingDiscoveredModules;
@@ -73,6 +85,18 @@ public class Therian {
         return new Therian(modules);
     }
 
+    /**
+     * Create a new {@link TherianModule} providing the standard {@link Operator}s and {@link ELResolver}s, for
+     * composition with other modules as by {@link #usingModules(TherianModule...)}.
+     *
+     * @return TherianModule
+     * @see #standard()
+     * @since 0.7
+     */
+    public static TherianModule standardModule() {
+        return TherianModule.create().withOperators(Operators.standard()).withELResolvers(new IterableELResolver());
+    }
+
     /**
      * Get a Therian instance configured with standard {@link Operator}s and {@link ELResolver}s.
      *
@@ -82,9 +106,18 @@ public class Therian {
         return STANDARD;
     }
 
+    /**
+     * Approximate maximum number of parsed expressions retained per {@link Therian} instance.
+     */
+    static final int EXPRESSION_CACHE_SIZE = 1024;
+
     private final TherianModule[] modules;
+    private final Assignability assignability = new Assignability();
     private final OperatorManager operatorManager;
+    private final BoundedCache<String, TherianContext.ParsedExpression> expressionCache =
+        new BoundedCache<>(EXPRESSION_CACHE_SIZE);
     private final List<ELResolver> elResolvers = new ArrayList<>();
+    private final TherianContextELResolver.FeatureCache featureCache = new TherianContextELResolver.FeatureCache();
     private final Map<Class<? extends Behavior>, Behavior> behaviorMap = new HashMap<>();
 
     private Therian(TherianModule... modules) {
@@ -110,10 +143,15 @@ public class Therian {
     }
 
     public TherianContext context() {
-        return contextFor(new SimpleELContext());
+        // every SimpleELContext has an equivalent ELResolver chain, thus the same bean features:
+        return contextFor(new SimpleELContext(), featureCache);
     }
 
     public TherianContext contextFor(ELContext wrapped) {
+        return contextFor(wrapped, new TherianContextELResolver.FeatureCache());
+    }
+
+    private TherianContext contextFor(ELContext wrapped, TherianContextELResolver.FeatureCache cache) {
         final TherianContext result = new TherianContext(new ELContextWrapper(wrapped) {
 
             @Override
@@ -124,10 +162,12 @@ public class Therian {
                         compositeResolver.add(configuredELResolver);
                     }
                 }
+                // preempts only the bean resolution of the wrapped context:
+                compositeResolver.add(FAST_BEAN_EL_RESOLVER);
                 compositeResolver.add(elResolver);
                 return compositeResolver;
             }
-        }, this);
+        }, this, cache);
         result.putContext(Therian.class, this);
 
         final ELContextEvent event = new ELContextEvent(result);
@@ -139,10 +179,81 @@ public class Therian {
         return result;
     }
 
+    /**
+     * Get a reusable conversion function from {@code sourceType} to {@code targetType}. Each call evaluates a new
+     * {@link Convert} of its argument, as declared to be of {@code sourceType}, with {@code hints}; the supporting
+     * {@link Operator} is therefore selected per call. The function is thread-safe, being backed by a single
+     * {@link TherianContext}.
+     *
+     * @param sourceType
+     * @param targetType
+     * @param hints applied to every conversion
+     * @return {@link Function}, which throws {@link OperationException} for any unsuccessful conversion
+     * @throws NullPointerException on {@code null} input
+     * @since 0.7
+     */
+    public <S, T> Function<S, T> converterFor(Typed<S> sourceType, Typed<T> targetType, Hint... hints) {
+        final Type source = Validate.notNull(sourceType, "sourceType").getType();
+        Validate.notNull(targetType, "targetType");
+        final Hint[] boundHints = Validate.noNullElements(hints, "null element at hints[%s]").clone();
+        final TherianContext context = context();
+
+        return value -> context.eval(Convert.to(targetType, Positions.readOnly(source, value)), boundHints);
+    }
+
+    /**
+     * Get a reusable conversion function from {@code sourceType} to {@code targetType}.
+     *
+     * @param sourceType
+     * @param targetType
+     * @param hints applied to every conversion
+     * @return {@link Function}
+     * @see #converterFor(Typed, Typed, Hint...)
+     * @since 0.7
+     */
+    public <S, T> Function<S, T> converterFor(Class<S> sourceType, Class<T> targetType, Hint... hints) {
+        return converterFor(TypeUtils.wrap(Validate.notNull(sourceType, "sourceType")),
+            TypeUtils.wrap(Validate.notNull(targetType, "targetType")), hints);
+    }
+
     public <B extends Behavior> B getBehavior(Class<B> type, B defaultValue) {
         return Optional.ofNullable(behaviorMap.get(type)).map(type::cast).orElse(defaultValue);
     }
 
+    /**
+     * Get statistics for the {@link Operator} cache maintained by this {@link Therian} instance per
+     * {@link Caching#THERIAN}.
+     *
+     * @return {@link BoundedCache.Stats}
+     */
+    public BoundedCache.Stats getOperatorCacheStats() {
+        return operatorManager.getOperatorCacheStats();
+    }
+
+    /**
+     * Get statistics for the cache of parsed expressions maintained by this {@link Therian} instance.
+     *
+     * @return {@link BoundedCache.Stats}
+     * @see TherianContext#getValueExpression(String)
+     */
+    public BoundedCache.Stats getExpressionCacheStats() {
+        return expressionCache.getStats();
+    }
+
+    /**
+     * Get the memoized type assignability checks shared by all contexts of this {@link Therian} instance.
+     *
+     * @return {@link Assignability}
+     * @since 0.7
+     */
+    public Assignability getAssignability() {
+        return assignability;
+    }
+
+    BoundedCache<String, TherianContext.ParsedExpression> getExpressionCache() {
+        return expressionCache;
+    }
+
     OperatorManager getOperatorManager() {
         return operatorManager;
     }
@@ -15,34 +15,54 @@
  */
 package therian;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.el.ELContext;
 import javax.el.ELResolver;
+import javax.el.FunctionMapper;
+import javax.el.ValueExpression;
+import javax.el.VariableMapper;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.reflect.Typed;
 import org.slf4j.Logger;
 
 import therian.Operator.Phase;
 import therian.OperatorManager.SupportChecker;
 import therian.behavior.Caching;
 import therian.el.TherianContextELResolver;
+import therian.operation.Convert;
+import therian.operation.Transform;
+import therian.position.Position;
+import therian.util.Assignability;
+import therian.util.BoundedCache;
+import therian.util.Positions;
 import uelbox.ELContextWrapper;
+import uelbox.UEL;
 
 /**
- * Therian context.
+ * Therian context. A single instance may be shared among multiple threads: each thread evaluates against its own
+ * {@link Operation} stack and {@link Hint}s, while {@link Operator} lookup state is shared.
  */
 public class TherianContext extends ELContextWrapper {
 
@@ -89,8 +109,7 @@ public class TherianContext extends ELContextWrapper {
                 return false;
             }
             final OperationRequest<?> other = (OperationRequest<?>) obj;
-            return new EqualsBuilder().append(operation, other.operation).append(effectiveHints, other.effectiveHints)
-                .isEquals();
+            return Objects.equals(operation, other.operation) && Objects.equals(effectiveHints, other.effectiveHints);
         }
 
         /*
@@ -107,6 +126,157 @@ public class TherianContext extends ELContextWrapper {
         }
     }
 
+    /**
+     * Recursion detection key of an {@link OperationRequest}, comprising the generic type of its operation's
+     * {@link Operation.Profile}, which equal operations share, and its hints; hashed once.
+     */
+    private static final class ActiveKey {
+        final Type genericType;
+        final Set<Hint> hints;
+        final int hashCode;
+
+        ActiveKey(OperationRequest<?> request) {
+            this.genericType = request.operation.getProfile().getGenericType();
+            this.hints = request.effectiveHints;
+            this.hashCode = Objects.hash(genericType, hints);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof ActiveKey)) {
+                return false;
+            }
+            final ActiveKey other = (ActiveKey) obj;
+            return hashCode == other.hashCode && genericType.equals(other.genericType) && hints.equals(other.hints);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * {@link ValueExpression} parsed once for the contexts of a {@link Therian} instance, along with the names of the
+     * functions and variables looked up, in vain, during parsing; reusable by any context that maps none of these.
+     */
+    static final class ParsedExpression {
+        /**
+         * Parse {@code expression} in {@code context}.
+         *
+         * @param context
+         * @param expression
+         * @return {@link ParsedExpression}, {@link #isShareable() shareable} only if no function or variable mapping
+         *         was used
+         */
+        static ParsedExpression parse(TherianContext context, String expression) {
+            final Recorder recorder = new Recorder(context);
+            final ValueExpression valueExpression =
+                UEL.getExpressionFactory(context).createValueExpression(recorder, expression, Object.class);
+            return new ParsedExpression(valueExpression, recorder);
+        }
+
+        /**
+         * Records the function and variable lookups made while parsing.
+         */
+        private static class Recorder extends ELContextWrapper {
+            final Set<Pair<String, String>> functions = new HashSet<>();
+            final Set<String> variables = new HashSet<>();
+            boolean mapped;
+
+            Recorder(ELContext wrapped) {
+                super(wrapped);
+            }
+
+            @Override
+            protected ELResolver wrap(ELResolver elResolver) {
+                return elResolver;
+            }
+
+            @Override
+            public FunctionMapper getFunctionMapper() {
+                return new FunctionMapper() {
+
+                    @Override
+                    public Method resolveFunction(String prefix, String localName) {
+                        final Method result = ParsedExpression.resolveFunction(wrapped, prefix, localName);
+                        functions.add(ImmutablePair.of(prefix, localName));
+                        mapped |= result != null;
+                        return result;
+                    }
+                };
+            }
+
+            @Override
+            public VariableMapper getVariableMapper() {
+                return new VariableMapper() {
+
+                    @Override
+                    public ValueExpression resolveVariable(String variable) {
+                        final ValueExpression result = ParsedExpression.resolveVariable(wrapped, variable);
+                        variables.add(variable);
+                        mapped |= result != null;
+                        return result;
+                    }
+
+                    @Override
+                    public ValueExpression setVariable(String variable, ValueExpression expression) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        }
+
+        private static Method resolveFunction(ELContext context, String prefix, String localName) {
+            final FunctionMapper functionMapper = context.getFunctionMapper();
+            return functionMapper == null ? null : functionMapper.resolveFunction(prefix, localName);
+        }
+
+        private static ValueExpression resolveVariable(ELContext context, String variable) {
+            final VariableMapper variableMapper = context.getVariableMapper();
+            return variableMapper == null ? null : variableMapper.resolveVariable(variable);
+        }
+
+        final ValueExpression valueExpression;
+        private final Set<Pair<String, String>> functions;
+        private final Set<String> variables;
+        private final boolean shareable;
+
+        private ParsedExpression(ValueExpression valueExpression, Recorder recorder) {
+            this.valueExpression = valueExpression;
+            this.functions = recorder.functions;
+            this.variables = recorder.variables;
+            this.shareable = !recorder.mapped;
+        }
+
+        boolean isShareable() {
+            return shareable;
+        }
+
+        /**
+         * Learn whether this (shareable) expression would have been parsed identically in {@code context}.
+         *
+         * @param context
+         * @return boolean
+         */
+        boolean isReusableBy(ELContext context) {
+            for (Pair<String, String> function : functions) {
+                if (resolveFunction(context, function.getLeft(), function.getRight()) != null) {
+                    return false;
+                }
+            }
+            for (String variable : variables) {
+                if (resolveVariable(context, variable) != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static class Frame<RESULT> {
         static class RecursionException extends Exception {
             private static final long serialVersionUID = 1L;
@@ -129,6 +299,9 @@ public class TherianContext extends ELContextWrapper {
             if (hints.length == 0) {
                 return Collections.emptyMap();
             }
+            if (hints.length == 1) {
+                return Collections.singletonMap(hints[0].getType(), hints[0]);
+            }
             final Map<Class<? extends Hint>, Hint> localHints = new LinkedHashMap<>();
             for (Hint hint : hints) {
                 final Class<? extends Hint> key = hint.getType();
@@ -145,12 +318,21 @@ public class TherianContext extends ELContextWrapper {
         final Map<Class<? extends Hint>, Hint> hints;
         private Frame<?> parent;
         private OperationRequest<RESULT> key;
-        private String lead;
+        private ActiveKey activeKey;
+
+        /**
+         * Hints in effect for this frame, by type; shared with the parent frame when no hints are declared locally.
+         */
+        private Map<Class<? extends Hint>, Hint> effectiveHintMap;
+        private Set<Hint> effectiveHints;
+        private int level;
 
         private Frame() {
             this.phase = Phase.EVALUATION;
             this.operation = null;
             this.hints = Collections.emptyMap();
+            this.effectiveHintMap = Collections.emptyMap();
+            this.effectiveHints = Collections.emptySet();
         }
 
         Frame(Phase phase, Operation<RESULT> operation, Hint... hints) {
@@ -164,86 +346,52 @@ public class TherianContext extends ELContextWrapper {
         }
 
         Hint getHint(Class<? extends Hint> type) {
-            if (hints.containsKey(type)) {
-                return hints.get(type);
-            }
-            return isRoot() ? null : parent.getHint(type);
+            return effectiveHintMap.get(type);
         }
 
-        void join(TherianContext context) {
-            for (Map.Entry<Class<? extends Hint>, Hint> e : hints.entrySet()) {
-                context.putContext(e.getKey(), e.getValue());
-            }
-        }
-
-        void part(TherianContext context) {
-            for (Map.Entry<Class<? extends Hint>, Hint> e : hints.entrySet()) {
-                final Class<? extends Hint> hintKey = e.getKey();
-                final Hint previous = isRoot() ? null : parent.getHint(hintKey);
-                if (previous == null) {
-                    context.removeContext(hintKey);
-                } else {
-                    context.putContext(hintKey, previous);
-                }
-            }
+        private Set<Hint> effectiveHints() {
+            return effectiveHints;
         }
 
-        <T> OperationRequest<T> find(OperationRequest<T> key) {
-            @SuppressWarnings("unchecked")
-            final OperationRequest<T> localKey = (OperationRequest<T>) getKey();
-            if (localKey.equals(key)) {
-                return localKey;
-            }
-            return isRoot() ? null : parent.find(key);
-        }
+        private void inheritHints() {
+            final Map<Class<? extends Hint>, Hint> inherited =
+                isRoot() ? Collections.emptyMap() : parent.effectiveHintMap;
 
-        private void populate(Map<Class<? extends Hint>, Hint> hintsMap) {
-            if (!isRoot()) {
-                parent.populate(hintsMap);
+            if (hints.isEmpty()) {
+                effectiveHintMap = inherited;
+                effectiveHints = isRoot() ? Collections.emptySet() : parent.effectiveHints;
+                return;
             }
-            hintsMap.putAll(hints);
-        }
-
-        private Set<Hint> effectiveHints() {
-            final Map<Class<? extends Hint>, Hint> m = new HashMap<>();
-            populate(m);
-            if (m.isEmpty()) {
-                return Collections.emptySet();
+            if (inherited.isEmpty()) {
+                effectiveHintMap = hints;
+            } else {
+                final Map<Class<? extends Hint>, Hint> m = new LinkedHashMap<>(inherited);
+                m.putAll(hints);
+                effectiveHintMap = Collections.unmodifiableMap(m);
             }
-            return Collections.unmodifiableSet(new LinkedHashSet<>(m.values()));
+            effectiveHints = Collections.unmodifiableSet(new LinkedHashSet<>(effectiveHintMap.values()));
         }
 
-        private synchronized OperationRequest<RESULT> getKey() {
+        private OperationRequest<RESULT> getKey() {
             if (key == null) {
                 key = new OperationRequest<>(operation, effectiveHints(), phase);
             }
             return key;
         }
 
-        OperationRequest<RESULT> setParent(Frame<?> parent) throws Frame.RecursionException {
+        OperationRequest<RESULT> setParent(Frame<?> parent) {
             this.parent = parent;
+            inheritHints();
             key = null;
-            final OperationRequest<RESULT> result = getKey();
-
-            if (isRoot()) {
-                lead = "";
-            } else {
-                final OperationRequest<RESULT> duplicateKey = parent.find(result);
-                if (duplicateKey != null) {
-                    throw new Frame.RecursionException(duplicateKey);
-                }
-                lead = StringUtils.repeat(' ', (depth(parent) - 1) * 2) + BRANCH;
-            }
-            return result;
-        }
-
-        int depth(Frame<?> parent) {
-            int result = 0;
-            for (Frame<?> f = parent; f != null && f.key != null; f = f.parent, result++);
-            return result;
+            level = isRoot() ? 1 : parent.level + 1;
+            return getKey();
         }
 
+        /**
+         * Get a representation of this frame for logging, indented per its depth. Only called when logging is enabled.
+         */
         String logString() {
+            final String lead = isRoot() ? "" : StringUtils.repeat(' ', (level - 2) * 2) + BRANCH;
             return lead + getKey();
         }
     }
@@ -252,6 +400,24 @@ public class TherianContext extends ELContextWrapper {
         boolean evaluate(Operation<T> operation);
     }
 
+    /**
+     * Per-thread evaluation state.
+     */
+    private static class Evaluation {
+        final Deque<Frame<?>> stack = new ArrayDeque<>();
+        Map<OperationRequest<?>, CachedEvaluator<?>> cache = new HashMap<>();
+        Session session;
+
+        /**
+         * Requests of the frames on {@link #stack}, for recursion detection. Not hashed by request, as the values at a
+         * request's positions (and thus its hash code) may change while it is active; rather by {@link ActiveKey},
+         * which is unaffected by these values and shared by equal requests. Thus only requests that differ in such
+         * values alone are compared.
+         */
+        final Map<ActiveKey, List<OperationRequest<?>>> active = new HashMap<>();
+        boolean propertyResolved;
+    }
+
     private static final ThreadLocal<TherianContext> CURRENT_INSTANCE = new ThreadLocal<>();
 
     /**
@@ -320,23 +486,218 @@ public class TherianContext extends ELContextWrapper {
         }
     }
 
-    private final Deque<Frame<?>> stack = new ArrayDeque<>();
-    private final Map<OperationRequest<?>, CachedEvaluator<?>> cache = new HashMap<>();
+    /**
+     * Scope within which the {@link Operator}s and results a {@link TherianContext} caches for the current thread are
+     * retained across top-level evaluations, rather than discarded as each completes. The cache holds at most
+     * {@link #getMaximumSize()} entries, evicting the least recently used; each entry strongly references its
+     * operation, including that operation's source values and result, so the maximum size should reflect the memory
+     * that may be retained for the life of the session. Results of operations upon existing target values (e.g.
+     * {@link therian.operation.Copy}) are not cached within a session, while results of other operations (e.g.
+     * {@link Convert}) may be shared among top-level evaluations and should thus be treated as immutable. Cached
+     * entries are matched by equality of operations and hints alone, so a result is reused for any equal operation
+     * whatever the current state of its source: e.g. converting a bean that does not override
+     * {@link Object#equals(Object)} yields the same result even after the bean has been modified in place. A session
+     * should therefore be confined to sources that are not modified during its lifetime. A {@link Session} applies
+     * only to the thread that opened it, and must be closed by that thread.
+     *
+     * @since 0.7
+     */
+    public final class Session implements AutoCloseable {
+        private final Evaluation owner;
+        private final int maximumSize;
+
+        private Session(Evaluation owner, int maximumSize) {
+            this.owner = owner;
+            this.maximumSize = maximumSize;
+        }
+
+        /**
+         * Get the number of entries currently cached.
+         *
+         * @return int
+         */
+        public int size() {
+            return owner.session == this ? owner.cache.size() : 0;
+        }
+
+        /**
+         * Get the maximum number of entries cached.
+         *
+         * @return int
+         */
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        /**
+         * Close this {@link Session}, discarding its cache. Has no effect if already closed.
+         *
+         * @throws IllegalStateException if invoked by a thread other than the one that opened the session, or during
+         *             evaluation
+         */
+        @Override
+        public void close() {
+            if (owner.session != this) {
+                return;
+            }
+            Validate.validState(evaluation.get() == owner, "%s must be closed by the thread that opened it",
+                Session.class.getSimpleName());
+            Validate.validState(owner.stack.isEmpty(), "cannot close %s during evaluation",
+                Session.class.getSimpleName());
+            owner.session = null;
+            owner.cache = new HashMap<>();
+        }
+    }
+
+    /**
+     * Default maximum number of entries cached by a {@link Session}.
+     */
+    public static final int DEFAULT_SESSION_CACHE_SIZE = 4096;
+
+    private final ThreadLocal<Evaluation> evaluation = ThreadLocal.withInitial(Evaluation::new);
 
     private final SupportChecker supportChecker;
     private final Therian parent;
     private final Logger logger;
+    private final TherianContextELResolver.FeatureCache featureCache;
 
-    TherianContext(ELContext wrapped, Therian parent) {
+    TherianContext(ELContext wrapped, Therian parent, TherianContextELResolver.FeatureCache featureCache) {
         super(wrapped);
         this.parent = Validate.notNull(parent, "parent");
+        this.featureCache = Validate.notNull(featureCache, "featureCache");
         supportChecker = parent.getOperatorManager().new SupportChecker(this);
         logger = parent.getLogger(getClass());
     }
 
     @Override
     protected ELResolver wrap(ELResolver elResolver) {
-        return new TherianContextELResolver(elResolver);
+        // featureCache is not yet assigned while our superclass constructor wraps:
+        return new TherianContextELResolver(elResolver, () -> featureCache);
+    }
+
+    /**
+     * {@inheritDoc} {@link Hint}s in effect for the current thread's evaluation take precedence.
+     */
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Object getContext(Class key) {
+        final Class<?> type = key;
+        if (Hint.class.isAssignableFrom(type)) {
+            final Frame<?> frame = evaluation.get().stack.peek();
+            if (frame != null) {
+                final Hint hint = frame.getHint(type.asSubclass(Hint.class));
+                if (hint != null) {
+                    return hint;
+                }
+            }
+        }
+        return super.getContext(key);
+    }
+
+    /**
+     * {@inheritDoc} Tracked per thread.
+     */
+    @Override
+    public boolean isPropertyResolved() {
+        return evaluation.get().propertyResolved;
+    }
+
+    /**
+     * {@inheritDoc} Tracked per thread.
+     */
+    @Override
+    public void setPropertyResolved(boolean resolved) {
+        evaluation.get().propertyResolved = resolved;
+    }
+
+    /**
+     * Get the {@link Hint}s in effect for the current thread's evaluation, e.g. to apply them to evaluations performed
+     * on other threads.
+     *
+     * @return {@link Hint}[]
+     * @since 0.7
+     */
+    public Hint[] getHints() {
+        final Frame<?> frame = evaluation.get().stack.peek();
+        if (frame == null) {
+            return new Hint[0];
+        }
+        final Set<Hint> hints = frame.effectiveHints();
+        return hints.toArray(new Hint[hints.size()]);
+    }
+
+    /**
+     * Open a {@link Session} of {@link #DEFAULT_SESSION_CACHE_SIZE} for the current thread.
+     *
+     * @return {@link Session}
+     * @throws IllegalStateException if a {@link Session} is already open for the current thread, or during evaluation
+     * @see #openSession(int)
+     * @since 0.7
+     */
+    public Session openSession() {
+        return openSession(DEFAULT_SESSION_CACHE_SIZE);
+    }
+
+    /**
+     * Open a {@link Session} for the current thread, within which cached {@link Operator}s and results are retained
+     * across top-level evaluations, and reused for equal operations regardless of any intervening modification of their
+     * sources. Intended for use with try-with-resources.
+     *
+     * @param maximumSize maximum number of cache entries
+     * @return {@link Session}
+     * @throws IllegalStateException if a {@link Session} is already open for the current thread, or during evaluation
+     * @since 0.7
+     */
+    public Session openSession(final int maximumSize) {
+        Validate.isTrue(maximumSize > 0, "maximumSize must be > 0");
+        final Evaluation evaluation = this.evaluation.get();
+        Validate.validState(evaluation.session == null, "%s already open", Session.class.getSimpleName());
+        Validate.validState(evaluation.stack.isEmpty(), "cannot open %s during evaluation",
+            Session.class.getSimpleName());
+
+        evaluation.session = new Session(evaluation, maximumSize);
+        evaluation.cache = new LinkedHashMap<OperationRequest<?>, CachedEvaluator<?>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<OperationRequest<?>, CachedEvaluator<?>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+        return evaluation.session;
+    }
+
+    /**
+     * Get a {@link ValueExpression} of expected type {@link Object} for {@code expression}. An expression is parsed
+     * only once per {@link Therian} instance, and shared by its contexts, so long as it refers to no function or
+     * variable mapped by the {@link FunctionMapper} or {@link VariableMapper} of the parsing context; otherwise it is
+     * parsed anew for each use in a context that maps any of these.
+     *
+     * @param expression delimited EL expression
+     * @return {@link ValueExpression}
+     */
+    public ValueExpression getValueExpression(String expression) {
+        Validate.notNull(expression, "expression");
+        final BoundedCache<String, ParsedExpression> expressionCache = parent.getExpressionCache();
+        final ParsedExpression cached = expressionCache.get(expression);
+        if (cached != null && cached.isReusableBy(this)) {
+            return cached.valueExpression;
+        }
+        final ParsedExpression parsed = ParsedExpression.parse(this, expression);
+        if (parsed.isShareable()) {
+            expressionCache.put(expression, parsed);
+        }
+        return parsed.valueExpression;
+    }
+
+    /**
+     * Get the memoized type assignability checks of the {@link Therian} instance that created this context.
+     *
+     * @return {@link Assignability}
+     * @since 0.7
+     */
+    public Assignability getAssignability() {
+        return parent.getAssignability();
     }
 
     /**
@@ -346,7 +707,7 @@ public class TherianContext extends ELContextWrapper {
      * @return {@link Stream} of {@link OperationRequest}
      */
     public Stream<OperationRequest<?>> getRequestStack() {
-        return stack.stream().map(Frame::getKey);
+        return evaluation.get().stack.stream().map(Frame::getKey);
     }
 
     /**
@@ -356,7 +717,7 @@ public class TherianContext extends ELContextWrapper {
      * @return boolean
      * @throws NullPointerException on {@code null} input
      */
-    public synchronized <RESULT> boolean supports(final Operation<RESULT> operation, Hint... hints) {
+    public <RESULT> boolean supports(final Operation<RESULT> operation, Hint... hints) {
         final Frame<RESULT> frame = new Frame<>(Phase.SUPPORT_CHECK, operation, hints);
         try {
             return handle(frame);
@@ -376,7 +737,7 @@ public class TherianContext extends ELContextWrapper {
      * @throws NullPointerException on {@code null} input
      * @throws OperationException potentially, via {@link Operation#getResult()}
      */
-    public final synchronized <RESULT, OPERATION extends Operation<RESULT>> RESULT evalIfSupported(OPERATION operation,
+    public final <RESULT, OPERATION extends Operation<RESULT>> RESULT evalIfSupported(OPERATION operation,
         Hint... hints) {
         return evalIfSupported(operation, null, hints);
     }
@@ -391,7 +752,7 @@ public class TherianContext extends ELContextWrapper {
      * @throws NullPointerException on {@code null} input
      * @throws OperationException potentially, via {@link Operation#getResult()}
      */
-    public final synchronized <RESULT, OPERATION extends Operation<RESULT>> RESULT evalIfSupported(OPERATION operation,
+    public final <RESULT, OPERATION extends Operation<RESULT>> RESULT evalIfSupported(OPERATION operation,
         RESULT defaultValue, Hint... hints) {
         return evalSuccess(operation, hints) ? operation.getResult() : defaultValue;
     }
@@ -406,7 +767,7 @@ public class TherianContext extends ELContextWrapper {
      * @throws NullPointerException on {@code null} input
      * @throws OperationException potentially, via {@link Operation#getResult()}
      */
-    public final synchronized <RESULT> boolean evalSuccess(Consumer<? super RESULT> callback,
+    public final <RESULT> boolean evalSuccess(Consumer<? super RESULT> callback,
         Operation<RESULT> operation, Hint... hints) {
         if (evalSuccess(operation, hints)) {
             if (callback != null) {
@@ -426,23 +787,95 @@ public class TherianContext extends ELContextWrapper {
      * @throws NullPointerException on {@code null} input
      * @throws OperationException potentially, via {@link Operation#getResult()}
      */
-    public final synchronized boolean evalSuccess(Operation<?> operation, Hint... hints) {
-        final boolean dummyRoot = stack.isEmpty();
-        if (dummyRoot) {
-            // add a root frame to preserve our cache "around" the supports/eval lifecycle, bypassing #push():
-            stack.push(Frame.ROOT);
-        }
-        try {
+    public final boolean evalSuccess(Operation<?> operation, Hint... hints) {
+        return withinRoot(() -> {
             if (supports(operation, hints)) {
                 eval(operation, hints);
                 return operation.isSuccessful();
             }
+            return false;
+        }).booleanValue();
+    }
+
+    /**
+     * Evaluate each of {@code operations}, in iteration order, as by {@link #evalSuccess(Consumer, Operation, Hint...)},
+     * stopping at the first that is unsupported or unsuccessful. All are evaluated within a single root frame, such
+     * that reusable {@link Operator}s and results cached for one are available to the rest.
+     *
+     * @param callback to receive each successful result, may be {@code null}
+     * @param operations
+     * @param hints
+     * @return whether every element of {@code operations} was supported and successful
+     * @throws NullPointerException on {@code null} input
+     * @throws OperationException potentially, via {@link Operation#getResult()}
+     * @since 0.7
+     */
+    public final <RESULT> boolean evalAll(Consumer<? super RESULT> callback,
+        Iterable<? extends Operation<? extends RESULT>> operations, Hint... hints) {
+        Validate.notNull(operations, "operations");
+        return withinRoot(() -> {
+            for (Operation<? extends RESULT> operation : operations) {
+                if (!evalSuccess(callback, operation, hints)) {
+                    return false;
+                }
+            }
+            return true;
+        }).booleanValue();
+    }
+
+    /**
+     * Convert each of {@code sources} to {@code targetType}, adding the results, in iteration order, to
+     * {@code results}. Each source element is presented at a read-only position of its runtime type (or
+     * {@link Object} if {@code null}); all conversions are evaluated within a single root frame, as by
+     * {@link #evalAll(Consumer, Iterable, Hint...)}, so that for homogeneous input the {@link Operator} supporting the
+     * first element is found by lookups already made for it.
+     *
+     * @param sources
+     * @param targetType
+     * @param results
+     * @param hints
+     * @return {@code results}
+     * @throws NullPointerException on {@code null} input
+     * @throws OperationException if any conversion is unsupported or unsuccessful
+     * @since 0.7
+     */
+    public final <S, T, C extends Collection<? super T>> C convertAll(Iterable<? extends S> sources,
+        Typed<T> targetType, C results, Hint... hints) {
+        Validate.notNull(sources, "sources");
+        Validate.notNull(targetType, "targetType");
+        Validate.notNull(results, "results");
+
+        withinRoot(() -> {
+            for (S source : sources) {
+                final Type sourceType = source == null ? Object.class : source.getClass();
+                final Convert<S, T> convert = Convert.to(targetType, Positions.readOnly(sourceType, source));
+                if (!evalSuccess(t -> results.add(t), convert, hints)) {
+                    throw new OperationException(convert);
+                }
+            }
+            return null;
+        });
+        return results;
+    }
+
+    /**
+     * Perform {@code action} with a root frame in place, preserving our cache "around" any number of
+     * supports/eval lifecycles.
+     */
+    private <T> T withinRoot(Supplier<T> action) {
+        final Evaluation evaluation = this.evaluation.get();
+        final boolean dummyRoot = evaluation.stack.isEmpty();
+        if (dummyRoot) {
+            // bypass #push():
+            evaluation.stack.push(Frame.ROOT);
+        }
+        try {
+            return action.get();
         } finally {
             if (dummyRoot) {
-                pop(Frame.ROOT);
+                pop(evaluation, Frame.ROOT);
             }
         }
-        return false;
     }
 
     /**
@@ -460,7 +893,7 @@ public class TherianContext extends ELContextWrapper {
      * @throws OperationException potentially, via {@link Operation#getResult()}
      * @see #eval(Operation)
      */
-    public final synchronized <RESULT, OPERATION extends Operation<RESULT>> RESULT eval(final OPERATION operation,
+    public final <RESULT, OPERATION extends Operation<RESULT>> RESULT eval(final OPERATION operation,
         Hint... hints) {
         final Frame<RESULT> frame = new Frame<>(Phase.EVALUATION, operation, hints);
         try {
@@ -483,8 +916,9 @@ public class TherianContext extends ELContextWrapper {
         return operator.perform(this, operation);
     }
 
-    private synchronized <RESULT> boolean handle(Frame<RESULT> frame) throws Frame.RecursionException {
-        final OperationRequest<?> request = push(frame);
+    private <RESULT> boolean handle(Frame<RESULT> frame) throws Frame.RecursionException {
+        final Evaluation evaluation = this.evaluation.get();
+        final OperationRequest<?> request = push(evaluation, frame);
 
         if (logger.isTraceEnabled()) {
             logger.trace("{} requested", frame.logString());
@@ -498,7 +932,7 @@ public class TherianContext extends ELContextWrapper {
         try {
             if (caching.implies(Caching.CONTEXT)) {
                 @SuppressWarnings("rawtypes")
-                final CachedEvaluator cachedEvaluator = cache.get(request);
+                final CachedEvaluator cachedEvaluator = evaluation.cache.get(request);
 
                 if (cachedEvaluator != null) {
                     switch (frame.phase) {
@@ -519,7 +953,14 @@ public class TherianContext extends ELContextWrapper {
                     }
                 }
             }
-            final Iterable<Operator<?>> supportingOperators = supportChecker.operatorsSupporting(frame.operation);
+            if (frame.phase == Phase.SUPPORT_CHECK
+                && supportChecker.isKnownUnsupported(frame.operation, request.effectiveHints)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("{} known to be unsupported", frame.logString());
+                }
+                return false;
+            }
+            final SupportChecker.Supporting supportingOperators = supportChecker.operatorsSupporting(frame.operation);
 
             final Operator.Phase phase = frame.phase;
             for (final Operator<?> operator : supportingOperators) {
@@ -534,17 +975,21 @@ public class TherianContext extends ELContextWrapper {
 
                         switch (phase) {
                         case SUPPORT_CHECK:
-                            if (!cache.containsKey(request)) {
+                            if (!evaluation.cache.containsKey(request)) {
                                 @SuppressWarnings("unchecked")
                                 // supports; therefore safe:
                                 final Operator<? extends Operation<RESULT>> strongOperator =
                                     (Operator<? extends Operation<RESULT>>) operator;
-                                cache.put(request, new CachedOperator<>(strongOperator));
+                                evaluation.cache.put(request, new CachedOperator<>(strongOperator));
                             }
                             break;
                         case EVALUATION:
-                            if (!(cache.get(request) instanceof CachedResult<?>)) {
-                                cache.put(request, new CachedResult<>(frame.operation.getResult()));
+                            if (evaluation.session != null && isMutation(frame.operation)) {
+                                break;
+                            }
+                            if (!(evaluation.cache.get(request) instanceof CachedResult<?>)) {
+                                final RESULT result = frame.operation.getResult();
+                                evaluation.cache.put(request, new CachedResult<>(result));
                             }
                             break;
                         default:
@@ -555,6 +1000,9 @@ public class TherianContext extends ELContextWrapper {
                     return true;
                 }
             }
+            if (phase == Phase.SUPPORT_CHECK) {
+                supportChecker.recordUnsupported(frame.operation, request.effectiveHints, supportingOperators);
+            }
             return false;
         } finally {
             if (originalContext == null) {
@@ -563,27 +1011,54 @@ public class TherianContext extends ELContextWrapper {
                 // restore original context
                 CURRENT_INSTANCE.set(originalContext);
             }
-            pop(frame);
+            pop(evaluation, frame);
         }
     }
 
-    private synchronized OperationRequest<?> push(Frame<?> frame) throws Frame.RecursionException {
-        final OperationRequest<?> result = frame.setParent(stack.peek());
-        stack.push(frame);
-        frame.join(this);
+    /**
+     * Learn whether {@code operation} acts upon an existing target value, such that its earlier success does not make
+     * repeating it redundant once that value may have changed.
+     */
+    private static boolean isMutation(Operation<?> operation) {
+        return operation instanceof Transform<?, ?, ?, ?>
+            && ((Transform<?, ?, ?, ?>) operation).getTargetPosition() instanceof Position.Readable<?>;
+    }
+
+    private static OperationRequest<?> push(Evaluation evaluation, Frame<?> frame) throws Frame.RecursionException {
+        final OperationRequest<?> result = frame.setParent(evaluation.stack.peek());
+        frame.activeKey = new ActiveKey(result);
+        final List<OperationRequest<?>> sameKey =
+            evaluation.active.computeIfAbsent(frame.activeKey, k -> new ArrayList<>(1));
+
+        // innermost first:
+        for (int i = sameKey.size() - 1; i >= 0; i--) {
+            final OperationRequest<?> duplicate = sameKey.get(i);
+            if (duplicate.equals(result)) {
+                throw new Frame.RecursionException(duplicate);
+            }
+        }
+        sameKey.add(result);
+        evaluation.stack.push(frame);
         return result;
     }
 
-    private synchronized void pop(Frame<?> frame) {
-        final Frame<?> popFrame = stack.pop();
+    private static void pop(Evaluation evaluation, Frame<?> frame) {
+        final Frame<?> popFrame = evaluation.stack.pop();
         Validate.validState(popFrame == frame, "operation stack out of whack; found %s where %s was expected",
             popFrame.getKey(), frame.getKey());
 
-        frame.part(this);
+        if (frame != Frame.ROOT) {
+            final List<OperationRequest<?>> sameKey = evaluation.active.get(frame.activeKey);
+            // frames are pushed and popped in LIFO order:
+            sameKey.remove(sameKey.size() - 1);
+            if (sameKey.isEmpty()) {
+                evaluation.active.remove(frame.activeKey);
+            }
+        }
 
-        // clear cache when stack is empty:
-        if (stack.isEmpty()) {
-            cache.clear();
+        // clear cache when stack is empty, unless retained by a session:
+        if (evaluation.stack.isEmpty() && evaluation.session == null) {
+            evaluation.cache.clear();
         }
     }
 }
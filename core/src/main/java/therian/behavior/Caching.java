@@ -26,7 +26,7 @@ public enum Caching implements Behavior {
 
     /**
      * Specifies to cache supporting {@link Operator} per {@link Operation.Profile}, per
-     * {@link Therian} instance.
+     * {@link Therian} instance, in a size-bounded cache (see {@link Therian#getOperatorCacheStats()}).
      */
     THERIAN,
 
@@ -36,6 +36,20 @@ public enum Caching implements Behavior {
     ALL;
 //@formatter:on
 
+    private static final ClassValue<Boolean> REUSABLE_BY_PROFILE = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c : ClassUtils.hierarchy(type)) {
+                if (c.isAnnotationPresent(Reusable.class)) {
+                    final Reusable reusable = c.getAnnotation(Reusable.class);
+                    return Boolean.valueOf(reusable.byProfile() && reusable.value().length > 0);
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
     /**
      * Test whether an object is reusable, i.e. cacheable. By default, everything is considered reusable, so to mark an
      * item as *not* being reusable one would declare the {@link Reusable} annotation with the desired operator phases.
@@ -69,6 +83,18 @@ public enum Caching implements Behavior {
         return true;
     }
 
+    /**
+     * Test whether an object's support check result may be reused across {@link Operation}s sharing a
+     * {@link Operation.Profile}; this is never assumed, but must be declared using {@link Reusable#byProfile()}.
+     *
+     * @param o
+     * @return whether
+     * @since 0.7
+     */
+    public static boolean isReusableByProfile(Object o) {
+        return REUSABLE_BY_PROFILE.get(o.getClass()).booleanValue();
+    }
+
     /**
      * Learn whether {@code this} implies the specified {@link Caching} {@code behavior}.
      * 
@@ -0,0 +1,171 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.el;
+
+import java.beans.FeatureDescriptor;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import javax.el.ELContext;
+import javax.el.ELException;
+import javax.el.ELResolver;
+
+/**
+ * {@link ELResolver} that reads and writes bean properties using {@link MethodHandle}s, looked up once per class. Only
+ * properties of plain beans, named by {@link String}s and having publicly accessible accessor methods, are handled;
+ * anything else, including unknown properties and feature descriptors, is left to subsequent {@link ELResolver}s,
+ * normally to include a standard {@link javax.el.BeanELResolver}.
+ */
+public class FastBeanELResolver extends ELResolver {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static class BeanProperty {
+        final Class<?> type;
+        final MethodHandle getter;
+        final MethodHandle setter;
+
+        BeanProperty(PropertyDescriptor descriptor) {
+            this.type = descriptor.getPropertyType();
+            this.getter = unreflect(descriptor.getReadMethod(), GETTER_TYPE);
+            this.setter = unreflect(descriptor.getWriteMethod(), SETTER_TYPE);
+        }
+
+        private static MethodHandle unreflect(Method method, MethodType type) {
+            if (method == null) {
+                return null;
+            }
+            try {
+                return MethodHandles.publicLookup().unreflect(method).asType(type);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final ClassValue<Map<String, BeanProperty>> PROPERTIES =
+        new ClassValue<Map<String, BeanProperty>>() {
+
+            @Override
+            protected Map<String, BeanProperty> computeValue(Class<?> type) {
+                if (!isBean(type)) {
+                    return Collections.emptyMap();
+                }
+                final PropertyDescriptor[] descriptors;
+                try {
+                    descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+                } catch (IntrospectionException e) {
+                    return Collections.emptyMap();
+                }
+                final Map<String, BeanProperty> result = new HashMap<>(descriptors.length * 2);
+                for (PropertyDescriptor descriptor : descriptors) {
+                    // indexed-only properties have no property type:
+                    if (descriptor.getPropertyType() != null) {
+                        result.put(descriptor.getName(), new BeanProperty(descriptor));
+                    }
+                }
+                return Collections.unmodifiableMap(result);
+            }
+        };
+
+    /**
+     * Learn whether {@code type} is a plain bean type, as opposed to one whose properties would be resolved by another
+     * of the standard {@link ELResolver}s.
+     */
+    static boolean isBean(Class<?> type) {
+        return !(type.isArray() || Map.class.isAssignableFrom(type) || Iterable.class.isAssignableFrom(type)
+            || Iterator.class.isAssignableFrom(type) || Enumeration.class.isAssignableFrom(type)
+            || ResourceBundle.class.isAssignableFrom(type));
+    }
+
+    private static BeanProperty getProperty(Object base, Object property) {
+        if (base == null || !(property instanceof String)) {
+            return null;
+        }
+        return PROPERTIES.get(base.getClass()).get(property);
+    }
+
+    @Override
+    public Object getValue(ELContext context, Object base, Object property) {
+        final BeanProperty beanProperty = getProperty(base, property);
+        if (beanProperty == null || beanProperty.getter == null) {
+            return null;
+        }
+        final Object result;
+        try {
+            result = beanProperty.getter.invokeExact(base);
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+        context.setPropertyResolved(true);
+        return result;
+    }
+
+    @Override
+    public Class<?> getType(ELContext context, Object base, Object property) {
+        final BeanProperty beanProperty = getProperty(base, property);
+        if (beanProperty == null) {
+            return null;
+        }
+        context.setPropertyResolved(true);
+        return beanProperty.type;
+    }
+
+    @Override
+    public void setValue(ELContext context, Object base, Object property, Object value) {
+        final BeanProperty beanProperty = getProperty(base, property);
+        if (beanProperty == null || beanProperty.setter == null) {
+            return;
+        }
+        try {
+            beanProperty.setter.invokeExact(base, value);
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+        context.setPropertyResolved(true);
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context, Object base, Object property) {
+        final BeanProperty beanProperty = getProperty(base, property);
+        if (beanProperty == null || beanProperty.setter == null) {
+            return false;
+        }
+        context.setPropertyResolved(true);
+        return false;
+    }
+
+    @Override
+    public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+        return null;
+    }
+
+    @Override
+    public Class<?> getCommonPropertyType(ELContext context, Object base) {
+        return null;
+    }
+}
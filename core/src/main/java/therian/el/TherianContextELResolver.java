@@ -16,11 +16,22 @@
 package therian.el;
 
 import java.beans.FeatureDescriptor;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import javax.el.ELContext;
 import javax.el.ELResolver;
 
+import org.apache.commons.lang3.Validate;
+
 import therian.Operator;
 
 /**
@@ -28,15 +39,201 @@ import therian.Operator;
  * <ul>
  * <li>Helps implement {@link Operator}s</li>
  * <li>Provides our conversion facilities to {@link #setValue(javax.el.ELContext, Object, Object, Object)}</li>
+ * <li>Caches the {@link FeatureDescriptor}s of bean classes</li>
  * </ul>
  */
 // TODO review responsibilities and corresponding doco of this class, or make
 // private to TherianContext
 public class TherianContextELResolver extends ELResolver {
+
+    /**
+     * Metadata of the feature(s) of a given name reported for some base object.
+     */
+    public static final class Feature {
+        private final String name;
+        private final List<FeatureDescriptor> descriptors = new ArrayList<>(1);
+        private Type genericType;
+        private Class<?> type;
+        private FeatureCache owner;
+        private volatile Boolean readOnly;
+
+        private Feature(String name) {
+            this.name = name;
+        }
+
+        private void add(FeatureDescriptor descriptor) {
+            descriptors.add(descriptor);
+            if (genericType == null) {
+                genericType = Type.class.cast(descriptor.getValue(ELConstants.GENERIC_TYPE));
+            }
+            if (type == null) {
+                type = Class.class.cast(descriptor.getValue(ELResolver.TYPE));
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the first {@link ELConstants#GENERIC_TYPE} attribute reported.
+         *
+         * @return {@link Type} or {@code null}
+         */
+        public Type getGenericType() {
+            return genericType;
+        }
+
+        /**
+         * Get the first {@link ELResolver#TYPE} attribute reported.
+         *
+         * @return {@link Class} or {@code null}
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Learn whether this feature is read-only on {@code base}; determined once for the {@link ELContext}s
+         * sharing the cache from which this {@link Feature} was obtained, else per call. If this cannot be
+         * determined, the feature is considered read-only.
+         *
+         * @param context
+         * @param base
+         * @return boolean
+         */
+        public boolean isReadOnly(ELContext context, Object base) {
+            final ELResolver elResolver = context.getELResolver();
+            final boolean memoize = owner != null && elResolver instanceof TherianContextELResolver
+                && ((TherianContextELResolver) elResolver).featureCache.get() == owner;
+            Boolean result = memoize ? readOnly : null;
+            if (result == null) {
+                final boolean propertyResolved = context.isPropertyResolved();
+                try {
+                    result = Boolean.valueOf(elResolver.isReadOnly(context, base, name));
+                } catch (Exception e) {
+                    result = Boolean.TRUE;
+                } finally {
+                    context.setPropertyResolved(propertyResolved);
+                }
+                if (memoize) {
+                    readOnly = result;
+                }
+            }
+            return result.booleanValue();
+        }
+    }
+
+    private static class Features {
+        final List<FeatureDescriptor> descriptors;
+        final Map<String, Feature> byName;
+
+        Features(Iterator<FeatureDescriptor> descriptors, FeatureCache owner) {
+            final List<FeatureDescriptor> list = new ArrayList<>();
+            final Map<String, Feature> byName = new LinkedHashMap<>();
+            if (descriptors != null) {
+                while (descriptors.hasNext()) {
+                    final FeatureDescriptor descriptor = copy(descriptors.next());
+                    list.add(descriptor);
+                    byName.computeIfAbsent(descriptor.getName(), Feature::new).add(descriptor);
+                }
+            }
+            byName.values().forEach(feature -> feature.owner = owner);
+            this.descriptors = Collections.unmodifiableList(list);
+            this.byName = Collections.unmodifiableMap(byName);
+        }
+
+        Iterator<FeatureDescriptor> descriptors() {
+            return descriptors.stream().map(Features::copy).iterator();
+        }
+
+        private static FeatureDescriptor copy(FeatureDescriptor descriptor) {
+            final FeatureDescriptor result = new FeatureDescriptor();
+            result.setName(descriptor.getName());
+            result.setDisplayName(descriptor.getDisplayName());
+            result.setShortDescription(descriptor.getShortDescription());
+            result.setExpert(descriptor.isExpert());
+            result.setHidden(descriptor.isHidden());
+            result.setPreferred(descriptor.isPreferred());
+            for (Enumeration<String> attributeNames = descriptor.attributeNames(); attributeNames.hasMoreElements();) {
+                final String attributeName = attributeNames.nextElement();
+                result.setValue(attributeName, descriptor.getValue(attributeName));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Get the {@link Feature}s of {@code base} by name, using the cache of the {@link TherianContextELResolver} of
+     * {@code context}, if any.
+     *
+     * @param context
+     * @param base
+     * @return unmodifiable {@link Map} of name to {@link Feature}
+     */
+    public static Map<String, Feature> getFeatures(ELContext context, Object base) {
+        final ELResolver elResolver = context.getELResolver();
+        if (elResolver instanceof TherianContextELResolver) {
+            return ((TherianContextELResolver) elResolver).features(context, base).byName;
+        }
+        return new Features(elResolver.getFeatureDescriptors(context, base), null).byName;
+    }
+
+    /**
+     * Cache of the features of bean classes, which are presumed to vary neither by instance nor among the
+     * {@link TherianContextELResolver}s sharing the cache; these must therefore delegate to equivalent
+     * {@link ELResolver} chains, e.g. those of the default contexts of a single {@link therian.Therian} instance.
+     *
+     * @since 0.7
+     */
+    public static final class FeatureCache {
+        private final ClassValue<AtomicReference<Features>> beanFeatures =
+            new ClassValue<AtomicReference<Features>>() {
+
+                @Override
+                protected AtomicReference<Features> computeValue(Class<?> type) {
+                    return new AtomicReference<>();
+                }
+            };
+    }
+
     private final ELResolver delegate;
+    private final Supplier<FeatureCache> featureCache;
 
     public TherianContextELResolver(ELResolver delegate) {
+        this(delegate, unshared());
+    }
+
+    /**
+     * Create a new {@link TherianContextELResolver}.
+     *
+     * @param delegate
+     * @param featureCache supplies the {@link FeatureCache} to share; consulted on use, such that it need not yet be
+     *            available during construction
+     * @since 0.7
+     */
+    public TherianContextELResolver(ELResolver delegate, Supplier<FeatureCache> featureCache) {
         this.delegate = delegate;
+        this.featureCache = Validate.notNull(featureCache, "featureCache");
+    }
+
+    private static Supplier<FeatureCache> unshared() {
+        final FeatureCache result = new FeatureCache();
+        return () -> result;
+    }
+
+    private Features features(ELContext context, Object base) {
+        if (base == null || !FastBeanELResolver.isBean(base.getClass())) {
+            return new Features(delegate.getFeatureDescriptors(context, base), null);
+        }
+        final FeatureCache cache = featureCache.get();
+        final AtomicReference<Features> ref = cache.beanFeatures.get(base.getClass());
+        Features result = ref.get();
+        if (result == null) {
+            ref.compareAndSet(null, new Features(delegate.getFeatureDescriptors(context, base), cache));
+            result = ref.get();
+        }
+        return result;
     }
 
     @Override
@@ -46,9 +243,10 @@ public class TherianContextELResolver extends ELResolver {
 
     @Override
     public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
-        // TODO cache/key? perhaps PropertyDescriptors only? that could work.
-        // maybe via a different API
-        return delegate.getFeatureDescriptors(context, base);
+        if (base == null || !FastBeanELResolver.isBean(base.getClass())) {
+            return delegate.getFeatureDescriptors(context, base);
+        }
+        return features(context, base).descriptors();
     }
 
     @Override
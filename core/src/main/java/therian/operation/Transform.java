@@ -29,6 +29,7 @@ import org.apache.commons.lang3.reflect.Typed;
 import therian.BindTypeVariable;
 import therian.Operation;
 import therian.position.Position;
+import therian.util.InternedTypes;
 import therian.util.Positions;
 import therian.util.Types;
 
@@ -62,7 +63,7 @@ public abstract class Transform<SOURCE, TARGET, RESULT, TARGET_POSITION extends
                         args[index++] =
                             ObjectUtils.defaultIfNull(argMappings.get(typeVariable), TypeUtils.WILDCARD_ALL);
                     }
-                    return TypeUtils.parameterize(rawValueType, args);
+                    return InternedTypes.parameterize(rawValueType, args);
                 }
                 return rawValueType;
             }
@@ -70,6 +71,14 @@ public abstract class Transform<SOURCE, TARGET, RESULT, TARGET_POSITION extends
         return type;
     }
 
+    private static boolean hasValue(Position.Readable<?> pos) {
+        try {
+            return pos.getValue() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     private final Position.Readable<SOURCE> sourcePosition;
     private final TARGET_POSITION targetPosition;
 
@@ -180,6 +189,21 @@ public abstract class Transform<SOURCE, TARGET, RESULT, TARGET_POSITION extends
         return new Profile(genericType, Byte.valueOf(encodeTargetDiscriminator()));
     }
 
+    /**
+     * {@inheritDoc} Encodes the presence of source and (readable) target values.
+     */
+    @Override
+    protected Object[] getSupportDiscriminator() {
+        byte result = 0;
+        if (hasValue(sourcePosition)) {
+            result |= 1;
+        }
+        if (Positions.isReadable(targetPosition) && hasValue((Position.Readable<?>) targetPosition)) {
+            result |= 2;
+        }
+        return new Object[] { Byte.valueOf(result) };
+    }
+
     /**
      * Different operators may pick up a given {@link Transform} depending on the readability/writability of
      * the {@link #targetPosition}; this information can be encoded in two bits.
@@ -60,12 +60,13 @@ public class AddEntryToMap extends OperatorBase<Add<? extends Map.Entry, ? exten
 
         final Type targetKeyType = TypeUtils.unrollVariables(targetArgs, Map.class.getTypeParameters()[0]);
 
-        if (targetKeyType != null && !TypeUtils.isInstance(add.getSourcePosition().getValue().getKey(), targetKeyType)) {
+        if (targetKeyType != null
+            && !context.getAssignability().isInstance(add.getSourcePosition().getValue().getKey(), targetKeyType)) {
             return false;
         }
         final Type targetValueType = TypeUtils.unrollVariables(targetArgs, Map.class.getTypeParameters()[1]);
 
         return targetValueType == null
-            || TypeUtils.isInstance(add.getSourcePosition().getValue().getValue(), targetValueType);
+            || context.getAssignability().isInstance(add.getSourcePosition().getValue().getValue(), targetValueType);
     }
 }
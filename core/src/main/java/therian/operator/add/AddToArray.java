@@ -63,6 +63,6 @@ public class AddToArray extends OperatorBase<Add<?, ?>> {
             return false;
         }
         final Type targetElementType = context.eval(GetElementType.of(add.getTargetPosition()));
-        return TypeUtils.isInstance(add.getSourcePosition().getValue(), targetElementType);
+        return context.getAssignability().isInstance(add.getSourcePosition().getValue(), targetElementType);
     }
 }
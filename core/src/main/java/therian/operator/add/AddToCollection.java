@@ -50,7 +50,7 @@ public class AddToCollection extends OperatorBase<Add<?, ? extends Collection<?>
         if (context.evalSuccess(ImmutableCheck.of(add.getTargetPosition()))) {
             return false;
         }
-        if (!TypeUtils.isAssignable(add.getTargetPosition().getType(), Collection.class)) {
+        if (!context.getAssignability().isAssignable(add.getTargetPosition().getType(), Collection.class)) {
             return false;
         }
         final Type targetElementType =
@@ -61,6 +61,6 @@ public class AddToCollection extends OperatorBase<Add<?, ? extends Collection<?>
             // raw collection
             return true;
         }
-        return TypeUtils.isAssignable(add.getSourcePosition().getType(), targetElementType);
+        return context.getAssignability().isAssignable(add.getSourcePosition().getType(), targetElementType);
     }
 }
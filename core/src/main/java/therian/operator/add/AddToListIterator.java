@@ -65,7 +65,7 @@ public class AddToListIterator extends OperatorBase<Add<?, ? extends ListIterato
         if (context.evalSuccess(ImmutableCheck.of(add.getTargetPosition()))) {
             return false;
         }
-        if (!TypeUtils.isAssignable(add.getTargetPosition().getType(), ListIterator.class)) {
+        if (!context.getAssignability().isAssignable(add.getTargetPosition().getType(), ListIterator.class)) {
             return false;
         }
         final Type targetElementType =
@@ -77,6 +77,6 @@ public class AddToListIterator extends OperatorBase<Add<?, ? extends ListIterato
             // raw
             return true;
         }
-        return TypeUtils.isAssignable(add.getSourcePosition().getType(), targetElementType);
+        return context.getAssignability().isAssignable(add.getSourcePosition().getType(), targetElementType);
     }
 }
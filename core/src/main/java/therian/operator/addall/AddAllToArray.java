@@ -78,7 +78,7 @@ public class AddAllToArray extends OperatorBase<AddAll<?, ?>> {
         }
         final Type sourceElementType = context.eval(getSourceElementType);
         final Type targetElementType = context.eval(getTargetElementType);
-        return TypeUtils.isAssignable(sourceElementType, targetElementType)
+        return context.getAssignability().isAssignable(sourceElementType, targetElementType)
             && context.supports(Convert.to(Positions.readWrite(addAll.getTargetPosition().getType()),
                 addAll.getSourcePosition()));
     }
@@ -19,10 +19,12 @@ import therian.operator.convert.EnumerationToList;
 import therian.operator.convert.IterableToList;
 import therian.position.Position;
 import therian.util.Positions;
+import therian.util.RepresentativeElements;
 
 /**
  * Attempts to convert source to {@link Iterable}, then {@link Add} each element to target. Expressly rejects array
- * targets in favor of {@link AddAllToArray}, which is more efficient for this job.
+ * targets in favor of {@link AddAllToArray}, which is more efficient for this job. Support is checked for one element
+ * per distinct runtime class, per {@link RepresentativeElements}.
  */
 @StandardOperator
 @DependsOn({ AddToCollection.class, AddToListIterator.class, IterableToList.class, EnumerationToList.class,
@@ -64,8 +66,12 @@ public class GenericAddAllOperator extends OperatorBase<AddAll<?, ?>> {
         }
         final Type sourceElementType = context.eval(getSourceElementType);
         final Position.ReadWrite<Object> sourceElement = Positions.readWrite(sourceElementType);
+        final RepresentativeElements representatives = new RepresentativeElements();
 
         for (Object o : context.eval(toIterable)) {
+            if (!representatives.add(o)) {
+                continue;
+            }
             sourceElement.setValue(o);
             if (!context.supports(Add.to(addAll.getTargetPosition(), sourceElement))) {
                 return false;
@@ -58,7 +58,8 @@ public abstract class AssignableElementConverter<SOURCE, TARGET> extends Convert
         final Type targetComponentType = targetComponentType(convert.getTargetPosition());
         final Type sourceComponentType = sourceComponentType(convert.getSourcePosition());
 
-        return sourceComponentType != null && TypeUtils.isAssignable(sourceComponentType, targetComponentType);
+        return sourceComponentType != null
+            && context.getAssignability().isAssignable(sourceComponentType, targetComponentType);
     }
 
     protected Type sourceComponentType(Typed<?> item) {
@@ -80,7 +80,7 @@ public class CollectionToArray extends Converter.WithDynamicTarget<Collection> {
         final Type targetElementType = context.eval(getTargetElementType);
 
         for (Object element : convert.getSourcePosition().getValue()) {
-            if (!TypeUtils.isInstance(element, targetElementType)) {
+            if (!context.getAssignability().isInstance(element, targetElementType)) {
                 return false;
             }
         }
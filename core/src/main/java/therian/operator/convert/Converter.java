@@ -17,7 +17,6 @@ package therian.operator.convert;
 
 import java.lang.reflect.Type;
 
-import org.apache.commons.lang3.reflect.TypeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,7 +66,7 @@ public abstract class Converter<SOURCE, TARGET> extends AbstractConverter<Conver
         @Override
         public boolean supports(TherianContext context, Convert<? extends SOURCE, ?> convert) {
             return !(isNoop(convert) && isRejectNoop())
-                && TypeUtils.isInstance(convert.getSourcePosition().getValue(), getSourceBound());
+                && context.getAssignability().isInstance(convert.getSourcePosition().getValue(), getSourceBound());
         }
 
         @Override
@@ -95,7 +94,7 @@ public abstract class Converter<SOURCE, TARGET> extends AbstractConverter<Conver
     @Override
     public boolean supports(TherianContext context, Convert<? extends SOURCE, ? super TARGET> convert) {
         return !(isNoop(convert) && isRejectNoop())
-            && TypeUtils.isAssignable(convert.getSourceType().getType(), getSourceBound())
-            && TypeUtils.isAssignable(getTargetBound(), convert.getTargetType().getType());
+            && context.getAssignability().isAssignable(convert.getSourceType().getType(), getSourceBound())
+            && context.getAssignability().isAssignable(getTargetBound(), convert.getTargetType().getType());
     }
 }
@@ -169,7 +169,8 @@ public abstract class CopyingConverter<SOURCE, TARGET> extends Converter<SOURCE,
                 @Override
                 public boolean supports(TherianContext context, Convert<? extends Object, ? super TARGET> convert) {
                     return super.supports(context, convert)
-                        && TypeUtils.isAssignable(convert.getTargetType().getType(), targetType.getType());
+                        && context.getAssignability().isAssignable(convert.getTargetType().getType(),
+                            targetType.getType());
                 }
             };
         }
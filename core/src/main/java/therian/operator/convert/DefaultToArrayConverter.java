@@ -27,6 +27,7 @@ import therian.operation.Convert;
 import therian.operation.GetElementType;
 import therian.operator.getelementtype.GetArrayElementType;
 import therian.position.Position;
+import therian.util.InternedTypes;
 import therian.util.Positions;
 
 /**
@@ -40,7 +41,7 @@ public class DefaultToArrayConverter extends Converter.WithDynamicTarget<Object>
     public boolean perform(TherianContext context, final Convert<?, ?> convert) {
         final Type targetElementType = context.eval(GetElementType.of(convert.getTargetPosition()));
         final Position.ReadWrite<List<?>> list =
-            Positions.readWrite(TypeUtils.parameterize(List.class, targetElementType));
+            Positions.readWrite(InternedTypes.parameterize(List.class, targetElementType));
 
         return context.evalSuccess(Convert.to(list, convert.getSourcePosition()))
             && context.evalSuccess(Convert.to(convert.getTargetPosition(), list));
@@ -56,7 +57,7 @@ public class DefaultToArrayConverter extends Converter.WithDynamicTarget<Object>
             return false;
         }
         final Type targetElementType = context.eval(getTargetElementType);
-        return context.supports(Convert.to(Positions.readWrite(TypeUtils.parameterize(List.class, targetElementType)),
-            convert.getSourcePosition()));
+        return context.supports(Convert.to(
+            Positions.readWrite(InternedTypes.parameterize(List.class, targetElementType)), convert.getSourcePosition()));
     }
 }
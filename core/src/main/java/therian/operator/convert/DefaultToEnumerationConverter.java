@@ -21,8 +21,6 @@ import java.lang.reflect.Type;
 import java.util.Enumeration;
 import java.util.Iterator;
 
-import org.apache.commons.lang3.reflect.TypeUtils;
-
 import therian.Operator.DependsOn;
 import therian.Reusable;
 import therian.TherianContext;
@@ -31,6 +29,7 @@ import therian.operation.Convert;
 import therian.operation.GetElementType;
 import therian.operator.getelementtype.GetEnumerationElementType;
 import therian.position.Position;
+import therian.util.InternedTypes;
 import therian.util.Positions;
 
 /**
@@ -46,7 +45,7 @@ public class DefaultToEnumerationConverter extends Converter<Object, Enumeration
     public boolean perform(TherianContext context, Convert<? extends Object, ? super Enumeration> convert) {
         final Type targetElementType = context.eval(GetElementType.of(convert.getTargetPosition()));
         final Position.ReadWrite<Iterator<?>> iterator =
-            Positions.readWrite(TypeUtils.parameterize(Iterator.class, targetElementType));
+            Positions.readWrite(InternedTypes.parameterize(Iterator.class, targetElementType));
         return context.evalSuccess(Convert.to(iterator, convert.getSourcePosition()))
             && context.evalSuccess(Convert.to(convert.getTargetPosition(), iterator));
     }
@@ -72,6 +71,6 @@ public class DefaultToEnumerationConverter extends Converter<Object, Enumeration
         final Type targetElementType = context.eval(getTargetElementType);
         final Type sourceElementType = context.eval(getSourceElementType);
 
-        return TypeUtils.isAssignable(sourceElementType, targetElementType);
+        return context.getAssignability().isAssignable(sourceElementType, targetElementType);
     }
 }
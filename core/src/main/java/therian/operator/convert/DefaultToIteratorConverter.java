@@ -20,8 +20,6 @@ import static therian.Operator.Phase.SUPPORT_CHECK;
 import java.lang.reflect.Type;
 import java.util.Iterator;
 
-import org.apache.commons.lang3.reflect.TypeUtils;
-
 import therian.Operator.DependsOn;
 import therian.Reusable;
 import therian.TherianContext;
@@ -66,6 +64,6 @@ public class DefaultToIteratorConverter extends Converter<Object, Iterator> {
             return false;
         }
         final Type sourceElementType = context.eval(getSourceElementType);
-        return TypeUtils.isAssignable(sourceElementType, targetElementType);
+        return context.getAssignability().isAssignable(sourceElementType, targetElementType);
     }
 }
@@ -84,6 +84,6 @@ public class DefaultToListConverter extends Converter<Object, List> {
             return false;
         }
         final Type sourceElementType = context.eval(getSourceElementType);
-        return TypeUtils.isAssignable(sourceElementType, targetElementType);
+        return context.getAssignability().isAssignable(sourceElementType, targetElementType);
     }
 }
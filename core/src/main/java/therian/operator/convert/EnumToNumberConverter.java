@@ -18,7 +18,6 @@ package therian.operator.convert;
 import java.lang.reflect.Type;
 
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.reflect.TypeUtils;
 
 import therian.Operator.DependsOn;
 import therian.TherianContext;
@@ -42,7 +41,7 @@ public class EnumToNumberConverter extends Converter.WithDynamicTarget<Enum<?>>
 
     @Override
     public boolean supports(TherianContext context, Convert<? extends Enum<?>, ?> operation) {
-        if (!TypeUtils.isAssignable(operation.getSourcePosition().getType(), Enum.class)) {
+        if (!context.getAssignability().isAssignable(operation.getSourcePosition().getType(), Enum.class)) {
             return false;
         }
         final Type targetType = operation.getTargetPosition().getType();
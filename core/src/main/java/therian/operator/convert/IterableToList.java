@@ -21,14 +21,13 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
-import org.apache.commons.lang3.reflect.TypeUtils;
-
 import therian.Operator.DependsOn;
 import therian.TherianContext;
 import therian.buildweaver.StandardOperator;
 import therian.operation.Convert;
 import therian.operation.GetElementType;
 import therian.operator.getelementtype.GetIterableElementType;
+import therian.util.InternedTypes;
 import therian.util.Positions;
 
 /**
@@ -51,7 +50,7 @@ public class IterableToList extends AssignableElementConverter<Iterable<?>, List
     public boolean perform(TherianContext context, Convert<? extends Iterable<?>, ? super List> convert) {
         final Type sourceElementType = context.eval(GetElementType.of(convert.getSourcePosition()));
         return context.evalSuccess(Convert.to(convert.getTargetPosition(),
-            Positions.readOnly(TypeUtils.parameterize(Iterator.class, sourceElementType),
+            Positions.readOnly(InternedTypes.parameterize(Iterator.class, sourceElementType),
                 convert.getSourcePosition().getValue().iterator())));
     }
 }
@@ -0,0 +1,225 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.convert;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+import therian.Operator;
+import therian.TherianContext;
+import therian.operation.Convert;
+import therian.operator.FromSourceToTarget;
+import therian.position.Position;
+import therian.util.Positions;
+import therian.util.Types;
+
+/**
+ * Converts by way of the shortest chain of a configured set of {@link Converter}s, modeled as a graph of classes
+ * connected by the bounds each {@link Converter} declares at the class level. The route between a given source class
+ * and target class is planned once and cached; each conversion along the route is then performed by invoking its
+ * {@link Converter} directly rather than by dispatching a nested {@link Convert} through the {@link TherianContext}.
+ * Routes are planned from the runtime class of the source value. Because planning considers declared types only,
+ * value-dependent support is checked for the first step of a route before it is accepted, and for each subsequent step
+ * before it is performed. Not a standard operator; typical usage:
+ *
+ * <pre>
+ * TherianModule.create().withOperators(PlannedConverter.of(new FooToBar(), new BarToBaz()));
+ * </pre>
+ */
+public class PlannedConverter extends Converter.WithDynamicTarget<Object> {
+
+    /**
+     * A single step along a route.
+     */
+    private static class Hop {
+        final Converter<?, ?> converter;
+        final Class<?> source;
+        final Class<?> target;
+
+        Hop(Converter<?, ?> converter, Class<?> source, Class<?> target) {
+            this.converter = converter;
+            this.source = source;
+            this.target = target;
+        }
+
+        boolean accepts(Class<?> type) {
+            return ClassUtils.isAssignable(type, source, true);
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        boolean supports(TherianContext context, Convert<?, ?> convert) {
+            return ((Operator) converter).supports(context, convert);
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        boolean perform(TherianContext context, Convert<?, ?> convert) {
+            if (supports(context, convert) && ((Operator) converter).perform(context, convert)) {
+                convert.setSuccessful(true);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return converter.toString();
+        }
+    }
+
+    private static Class<?> getBound(Converter<?, ?> converter, Class<?> boundedType) {
+        final Type bound = TypeUtils.unrollVariables(TypeUtils.getTypeArguments(converter.getClass(), boundedType),
+            boundedType.getTypeParameters()[0]);
+        return bound == null ? null : TypeUtils.getRawType(bound, null);
+    }
+
+    /**
+     * Create a {@link PlannedConverter} routing through {@code converters}, each of which must fully bind its
+     * {@code SOURCE} and {@code TARGET} type parameters at the class level.
+     *
+     * @param converters
+     * @return {@link PlannedConverter}
+     */
+    public static PlannedConverter of(Converter<?, ?>... converters) {
+        Validate.noNullElements(converters, "null converter at index %s");
+        final List<Hop> hops = new ArrayList<>(converters.length);
+        for (Converter<?, ?> converter : converters) {
+            final Class<?> source = getBound(converter, FromSourceToTarget.FromSource.class);
+            final Class<?> target = getBound(converter, FromSourceToTarget.ToTarget.class);
+            Validate.isTrue(source != null && target != null, "%s does not bind its source and target types",
+                converter);
+            hops.add(new Hop(converter, source, target));
+        }
+        return new PlannedConverter(hops);
+    }
+
+    private final List<Hop> hops;
+
+    private final ClassValue<Map<Class<?>, Optional<List<Hop>>>> routes =
+        new ClassValue<Map<Class<?>, Optional<List<Hop>>>>() {
+
+            @Override
+            protected Map<Class<?>, Optional<List<Hop>>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private PlannedConverter(List<Hop> hops) {
+        this.hops = Collections.unmodifiableList(hops);
+    }
+
+    @Override
+    public boolean perform(TherianContext context, Convert<?, ?> convert) {
+        final Optional<List<Hop>> route = getRoute(convert);
+        if (!route.isPresent()) {
+            return false;
+        }
+        final List<Hop> steps = route.get();
+        final int last = steps.size() - 1;
+
+        Object value = convert.getSourcePosition().getValue();
+        Type type = value.getClass();
+        for (int i = 0; i < last; i++) {
+            final Hop hop = steps.get(i);
+            final Convert<?, ?> step = Convert.to(hop.target, Positions.readOnly(type, value));
+            if (!hop.perform(context, step)) {
+                return false;
+            }
+            type = hop.target;
+            value = step.getResult();
+        }
+        return steps.get(last).perform(context, Convert.to(convert.getTargetPosition(), Positions.readOnly(type,
+            value)));
+    }
+
+    @Override
+    public boolean supports(TherianContext context, Convert<?, ?> convert) {
+        if (!super.supports(context, convert)) {
+            return false;
+        }
+        final Optional<List<Hop>> route = getRoute(convert);
+        if (!route.isPresent()) {
+            return false;
+        }
+        final Hop first = route.get().get(0);
+        final Object value = convert.getSourcePosition().getValue();
+        final Position.Readable<?> source = Positions.readOnly(value.getClass(), value);
+        final Convert<?, ?> step =
+            route.get().size() == 1 ? Convert.to(convert.getTargetPosition(), source) : Convert.to(first.target, source);
+        return first.supports(context, step);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s via %s", Types.getSimpleName(getClass()), hops);
+    }
+
+    /**
+     * Get the route for {@code convert}, which is empty unless it has a non-{@code null} source value and a target
+     * {@link Class}.
+     */
+    private Optional<List<Hop>> getRoute(Convert<?, ?> convert) {
+        final Object source = convert.getSourcePosition().getValue();
+        final Type targetType = convert.getTargetPosition().getType();
+        if (source == null || !(targetType instanceof Class<?>)) {
+            return Optional.empty();
+        }
+        return routes.get(source.getClass()).computeIfAbsent((Class<?>) targetType, t -> plan(source.getClass(), t));
+    }
+
+    /**
+     * Breadth-first search for the route having the fewest steps, preferring earlier-configured {@link Converter}s
+     * among routes of equal length.
+     */
+    private Optional<List<Hop>> plan(Class<?> sourceType, Class<?> targetType) {
+        final Map<Class<?>, Hop> reachedBy = new HashMap<>();
+        final Map<Class<?>, Class<?>> reachedFrom = new HashMap<>();
+        final Queue<Class<?>> queue = new ArrayDeque<>();
+        queue.add(sourceType);
+
+        while (!queue.isEmpty()) {
+            final Class<?> type = queue.remove();
+            for (Hop hop : hops) {
+                if (!hop.accepts(type) || hop.target.equals(sourceType) || reachedBy.containsKey(hop.target)) {
+                    continue;
+                }
+                reachedBy.put(hop.target, hop);
+                reachedFrom.put(hop.target, type);
+
+                if (ClassUtils.isAssignable(hop.target, targetType, true)) {
+                    final List<Hop> route = new ArrayList<>();
+                    for (Class<?> t = hop.target; !t.equals(sourceType); t = reachedFrom.get(t)) {
+                        route.add(0, reachedBy.get(t));
+                    }
+                    return Optional.of(Collections.unmodifiableList(route));
+                }
+                queue.add(hop.target);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -3,6 +3,7 @@ package therian.operator.copy;
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
@@ -18,6 +19,7 @@ import therian.operation.AddAll;
 import therian.operation.Convert;
 import therian.operation.Copy;
 import therian.operation.GetElementType;
+import therian.operation.ImmutableCheck;
 import therian.operator.add.AddToCollection;
 import therian.operator.add.AddToListIterator;
 import therian.operator.addall.AddAllToArray;
@@ -29,13 +31,16 @@ import therian.operator.convert.IteratorToList;
 import therian.operator.convert.NOPConverter;
 import therian.position.Position;
 import therian.position.relative.Element;
+import therian.util.InternedTypes;
 import therian.util.Positions;
+import therian.util.RepresentativeElements;
 
 /**
  * Tries to convert source and target to {@link Iterable}s, copy source elements onto corresponding target elements,
  * then to add remaining elements to target. If elements cannot be added but target position is writable, fallback
  * strategy is to add all target elements to a new array of target element type, and attempt to convert that to the
- * target position. This class contains the hidden gem that is nested element conversion.
+ * target position. This class contains the hidden gem that is nested element conversion, which may be done in parallel
+ * per {@link Parallelism}.
  */
 @DependsOn({ DefaultToListConverter.class, NOPConverter.class, DefaultToArrayConverter.class,
     GenericAddAllOperator.class, AddAllToArray.class })
@@ -85,16 +90,71 @@ public abstract class ContainerCopier<TARGET> extends Copier<Object, TARGET> {
         };
     }
 
+    /**
+     * Learn whether {@code copy} can be performed in bulk: i.e., the target has no elements to copy onto, and source
+     * elements can be added to it as-is, as {@link NOPConverter} would. A collection target must be one that
+     * {@link AddToCollection} would add to; an array target must be writable.
+     */
+    private static boolean isBulkCopyable(TherianContext context, Copy<?, ?> copy, Iterable<?> targetIterable,
+        Type sourceElementType, Type targetElementType) {
+        if (sourceElementType == null || targetElementType == null || targetIterable.iterator().hasNext()) {
+            return false;
+        }
+        final Class<?> rawTargetElementType = TypeUtils.getRawType(targetElementType, null);
+        if (rawTargetElementType == null || rawTargetElementType.isPrimitive()
+            || !context.getAssignability().isAssignable(sourceElementType, targetElementType)) {
+            return false;
+        }
+        if (context.getTypedContext(NOPConverter.NullBehavior.class,
+            NOPConverter.NullBehavior.DEFAULT) != NOPConverter.NullBehavior.DEFAULT) {
+            return false;
+        }
+        if (copy.getTargetPosition().getValue() instanceof Collection<?>) {
+            return context.getAssignability().isAssignable(copy.getTargetPosition().getType(), Collection.class)
+                && !context.evalSuccess(ImmutableCheck.of(copy.getTargetPosition()));
+        }
+        return TypeUtils.isArrayType(copy.getTargetPosition().getType())
+            && Positions.isWritable(copy.getTargetPosition());
+    }
+
+    /**
+     * Add all source elements to the target at once.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void bulkCopy(Copy<?, ?> copy, Iterable<?> sourceIterable, Type targetElementType) {
+        final Collection<?> sourceElements;
+        if (sourceIterable instanceof Collection<?>) {
+            sourceElements = (Collection<?>) sourceIterable;
+        } else {
+            final List<Object> list = new ArrayList<>();
+            sourceIterable.forEach(list::add);
+            sourceElements = list;
+        }
+        final Object target = copy.getTargetPosition().getValue();
+        if (target instanceof Collection) {
+            ((Collection) target).addAll(sourceElements);
+            return;
+        }
+        final Object[] targetElements = (Object[]) Array.newInstance(TypeUtils.getRawType(targetElementType, null),
+            sourceElements.size());
+        ((Position.Writable) copy.getTargetPosition()).setValue(sourceElements.toArray(targetElements));
+    }
+
     @Override
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public boolean perform(final TherianContext context, final Copy<?, ? extends TARGET> copy) {
         final Iterable sourceIterable = context.eval(Convert.to(Iterable.class, copy.getSourcePosition()));
-        final Iterator<?> sourceIterator = sourceIterable.iterator();
         final Iterable targetIterable = context.eval(Convert.to(Iterable.class, copy.getTargetPosition()));
-        final Iterator<?> targetIterator = targetIterable.iterator();
         final Type targetElementType = context.eval(GetElementType.of(copy.getTargetPosition()));
         final Type sourceElementType = context.eval(GetElementType.of(copy.getSourcePosition()));
 
+        if (isBulkCopyable(context, copy, targetIterable, sourceElementType, targetElementType)) {
+            bulkCopy(copy, sourceIterable, targetElementType);
+            return true;
+        }
+        final Iterator<?> sourceIterator = sourceIterable.iterator();
+        final Iterator<?> targetIterator = targetIterable.iterator();
+
         while (targetIterator.hasNext()) {
             if (!sourceIterator.hasNext()) {
                 break;
@@ -118,21 +178,22 @@ public abstract class ContainerCopier<TARGET> extends Copier<Object, TARGET> {
             sourceElementsForConversion.add(sourceIterator.next());
         }
 
-        final Position.ReadWrite<?> targetElements = Positions.readWrite(TypeUtils.genericArrayType(targetElementType));
+        final Position.ReadWrite<?> targetElements =
+            Positions.readWrite(InternedTypes.genericArrayType(targetElementType));
         final Class<?> rawTargetElementType = TypeUtils.getRawType(targetElementType, null);
         ((Position.Writable) targetElements).setValue(Array.newInstance(rawTargetElementType,
             sourceElementsForConversion.size()));
         final Position.Readable<List<?>> sourceSubList =
-            Positions.<List<?>> readOnly(TypeUtils.parameterize(List.class, sourceElementType),
+            Positions.<List<?>> readOnly(InternedTypes.parameterize(List.class, sourceElementType),
                 sourceElementsForConversion);
 
-        for (int i = 0, sz = sourceElementsForConversion.size(); i < sz; i++) {
+        if (!Parallelism.evaluate(context, sourceElementsForConversion.size(), (i, hints) -> {
             final Position.ReadWrite<?> targetElement = Element.atArrayIndex(i).of(targetElements);
             final Position.ReadWrite<?> sourceElement = Element.atIndex(i).of(sourceSubList);
 
-            if (!context.evalSuccess(Convert.to(targetElement, sourceElement))) {
-                return false;
-            }
+            return context.evalSuccess(Convert.to(targetElement, sourceElement), hints);
+        })) {
+            return false;
         }
 
         final AddAll<?, ?> addAll = AddAll.to(copy.getTargetPosition(), targetElements);
@@ -184,8 +245,12 @@ public abstract class ContainerCopier<TARGET> extends Copier<Object, TARGET> {
         final Type sourceElementType = context.eval(getSourceElementType);
         final Type targetElementType = context.eval(getTargetElementType);
 
+        if (isBulkCopyable(context, copy, targetIterable, sourceElementType, targetElementType)) {
+            return true;
+        }
         final Iterator<?> sourceIterator = sourceIterable.iterator();
         final Iterator<?> targetIterator = targetIterable.iterator();
+        final RepresentativeElements representatives = new RepresentativeElements();
 
         while (targetIterator.hasNext()) {
             if (!sourceIterator.hasNext()) {
@@ -197,7 +262,7 @@ public abstract class ContainerCopier<TARGET> extends Copier<Object, TARGET> {
                 // can do nothing with null target elements returned from an Iterator:
                 return false;
             }
-            if (sourceElement != null) {
+            if (sourceElement != null && representatives.add(targetElement, sourceElement)) {
                 final Position.Readable<?> sourceElementPosition = Positions.readOnly(sourceElementType, sourceElement);
                 if (!context.supports(Copy.to(Positions.readOnly(targetElement), sourceElementPosition))) {
                     return false;
@@ -211,13 +276,15 @@ public abstract class ContainerCopier<TARGET> extends Copier<Object, TARGET> {
         while (sourceIterator.hasNext()) {
             sourceElementsForConversion.add(sourceIterator.next());
         }
+        final RepresentativeElements conversionRepresentatives = new RepresentativeElements();
 
         //@formatter:off
         /*
          * array is "lowest common denominator" wrt primitive vs. Object elements;
          * plan:
          *  - create an array of proper size and initial values
-         *  - verify we can convert each remaining element into the corresponding position of this array
+         *  - verify we can convert each remaining element into the corresponding position of this array,
+         *    checking one element per distinct runtime class
          *  - verify that we can either:
          *    - AddAll this array to our original target pos, OR
          *    - expand the array to full size and convert to original (writable) target pos
@@ -226,17 +293,21 @@ public abstract class ContainerCopier<TARGET> extends Copier<Object, TARGET> {
 
         final Class<?> rawTargetElementType = TypeUtils.getRawType(targetElementType, null);
 
-        final Position.ReadWrite<?> targetElements = Positions.readWrite(TypeUtils.genericArrayType(targetElementType));
+        final Position.ReadWrite<?> targetElements =
+            Positions.readWrite(InternedTypes.genericArrayType(targetElementType));
         ((Position.Writable) targetElements).setValue(Array.newInstance(rawTargetElementType,
             sourceElementsForConversion.size()));
         Type[] typeArguments = { sourceElementType };
 
         final Type sourceSubListType =
-            sourceElementType == null ? List.class : TypeUtils.parameterize(List.class, typeArguments);
+            sourceElementType == null ? List.class : InternedTypes.parameterize(List.class, typeArguments);
         final Position.Readable<List<?>> sourceSubList =
             Positions.<List<?>> readOnly(sourceSubListType, sourceElementsForConversion);
 
         for (int i = 0, sz = sourceElementsForConversion.size(); i < sz; i++) {
+            if (!conversionRepresentatives.add(sourceElementsForConversion.get(i))) {
+                continue;
+            }
             final Position.ReadWrite<?> targetElement = Element.atArrayIndex(i).of(targetElements);
             final Position.ReadWrite<?> sourceElement = Element.atIndex(i).of(sourceSubList);
 
@@ -17,7 +17,6 @@ package therian.operator.copy;
 
 import java.math.BigDecimal;
 
-import org.apache.commons.lang3.reflect.TypeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,8 +70,8 @@ public abstract class Copier<SOURCE, TARGET> extends FromSourceToTarget<Copy<? e
         if (context.eval(ImmutableCheck.of(copy.getTargetPosition())).booleanValue() && isRejectImmutable()) {
             return false;
         }
-        return TypeUtils.isAssignable(copy.getSourceType().getType(), getSourceBound())
-            && TypeUtils.isAssignable(copy.getTargetType().getType(), getTargetBound());
+        return context.getAssignability().isAssignable(copy.getSourceType().getType(), getSourceBound())
+            && context.getAssignability().isAssignable(copy.getTargetType().getType(), getTargetBound());
     }
 
     /**
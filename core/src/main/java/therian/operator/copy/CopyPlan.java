@@ -0,0 +1,300 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.copy;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import therian.OperationException;
+import therian.TherianContext;
+import therian.operation.Copy;
+import therian.operator.convert.NOPConverter;
+import therian.position.Position;
+import therian.position.relative.Property;
+import therian.position.relative.RelativePositionFactory;
+
+/**
+ * Plan for copying between a given pair of bean classes on behalf of a {@link PropertyCopier}, computed once per class
+ * pair. Property values of immutable types directly assignable from source to target are copied using
+ * {@link MethodHandle}s, bypassing {@link TherianContext} dispatch altogether; anything else is delegated to a nested
+ * {@link Copy} as usual.
+ */
+class CopyPlan {
+
+    /**
+     * A single property-level copy.
+     */
+    static class Step {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        final RelativePositionFactory.ReadWrite<Object, ?> source;
+        final RelativePositionFactory.ReadWrite<Object, ?> target;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final boolean primitiveTarget;
+
+        Step(RelativePositionFactory.ReadWrite<Object, ?> source, RelativePositionFactory.ReadWrite<Object, ?> target,
+            Map<String, PropertyDescriptor> sourceProperties, Map<String, PropertyDescriptor> targetProperties) {
+            this.source = source;
+            this.target = target;
+
+            MethodHandle getter = null;
+            MethodHandle setter = null;
+            boolean primitiveTarget = false;
+            if (source instanceof Property.PositionFactory<?, ?> && target instanceof Property.PositionFactory<?, ?>) {
+                final PropertyDescriptor sourceProperty =
+                    sourceProperties.get(((Property.PositionFactory<?, ?>) source).getPropertyName());
+                final PropertyDescriptor targetProperty =
+                    targetProperties.get(((Property.PositionFactory<?, ?>) target).getPropertyName());
+
+                if (sourceProperty != null && targetProperty != null
+                    && isDirectlyAssignable(sourceProperty.getPropertyType(), targetProperty.getPropertyType())) {
+                    final Method readMethod = sourceProperty.getReadMethod();
+                    final Method writeMethod = targetProperty.getWriteMethod();
+                    if (readMethod != null && writeMethod != null) {
+                        try {
+                            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                            getter = lookup.unreflect(readMethod).asType(GETTER_TYPE);
+                            setter = lookup.unreflect(writeMethod).asType(SETTER_TYPE);
+                            primitiveTarget = targetProperty.getPropertyType().isPrimitive();
+                        } catch (IllegalAccessException e) {
+                            getter = null;
+                            setter = null;
+                        }
+                    }
+                }
+            }
+            this.getter = getter;
+            this.setter = setter;
+            this.primitiveTarget = primitiveTarget;
+        }
+
+        boolean isDirect() {
+            return getter != null;
+        }
+
+        Object read(Copy<?, ?> copy, Object sourceBean) {
+            try {
+                return getter.invokeExact(sourceBean);
+            } catch (Throwable t) {
+                throw new OperationException(copy, t, "Could not read %s from %s", source, sourceBean);
+            }
+        }
+
+        /**
+         * Learn whether {@code value} can be written directly, i.e. with exactly the effect a nested {@link Copy}
+         * would have.
+         */
+        boolean canWrite(TherianContext context, Object value) {
+            return value != null || !primitiveTarget
+                && context.getTypedContext(NOPConverter.NullBehavior.class,
+                    NOPConverter.NullBehavior.DEFAULT) == NOPConverter.NullBehavior.DEFAULT;
+        }
+
+        void write(Copy<?, ?> copy, Object targetBean, Object value) {
+            try {
+                setter.invokeExact(targetBean, value);
+            } catch (Throwable t) {
+                throw new OperationException(copy, t, "Could not write %s to %s", target, targetBean);
+            }
+        }
+
+        Copy<?, ?> toCopy(Copy<?, ?> copy, boolean safely) {
+            final Position.Readable<?> sourcePosition =
+                source == null ? copy.getSourcePosition() : source.of(copy.getSourcePosition());
+            final Position.Readable<?> targetPosition =
+                target == null ? copy.getTargetPosition() : target.of(copy.getTargetPosition());
+            return safely ? Copy.Safely.to(targetPosition, sourcePosition) : Copy.to(targetPosition, sourcePosition);
+        }
+    }
+
+    /**
+     * Learn whether {@code type} is eligible for planning, i.e. whether the properties of its instances are likely to
+     * be determined by their class rather than their contents.
+     *
+     * @param type
+     * @return boolean
+     */
+    static boolean isPlannable(Class<?> type) {
+        return !(type.isArray() || type.isPrimitive() || Map.class.isAssignableFrom(type)
+            || Iterable.class.isAssignableFrom(type) || Iterator.class.isAssignableFrom(type)
+            || Enumeration.class.isAssignableFrom(type));
+    }
+
+    /**
+     * Learn whether values of {@code sourceType} are immutable and can be assigned as-is to {@code targetType}.
+     */
+    private static boolean isDirectlyAssignable(Class<?> sourceType, Class<?> targetType) {
+        if (sourceType == null || targetType == null) {
+            return false;
+        }
+        if (!(targetType.isPrimitive() || ClassUtils.isPrimitiveWrapper(targetType) || String.class.equals(targetType)
+            || targetType.isEnum())) {
+            return false;
+        }
+        return ClassUtils.primitiveToWrapper(targetType).isAssignableFrom(ClassUtils.primitiveToWrapper(sourceType));
+    }
+
+    private static Map<String, PropertyDescriptor> describe(Class<?> type) {
+        try {
+            final Map<String, PropertyDescriptor> result = new HashMap<>();
+            for (PropertyDescriptor pd : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                result.put(pd.getName(), pd);
+            }
+            return result;
+        } catch (IntrospectionException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    final List<Step> mapped;
+    final List<Step> matched;
+    final boolean lenient;
+
+    /**
+     * Create a new {@link CopyPlan}.
+     *
+     * @param sourceType
+     * @param targetType
+     * @param mappings as parsed by {@link PropertyCopier}
+     * @param matchedProperties names
+     * @param lenient whether matching is lenient
+     */
+    CopyPlan(Class<?> sourceType, Class<?> targetType,
+        List<Pair<RelativePositionFactory.ReadWrite<Object, ?>, RelativePositionFactory.ReadWrite<Object, ?>>> mappings,
+        Collection<String> matchedProperties, boolean lenient) {
+        final Map<String, PropertyDescriptor> sourceProperties = describe(sourceType);
+        final Map<String, PropertyDescriptor> targetProperties = describe(targetType);
+
+        final List<Step> mapped = new ArrayList<>(mappings.size());
+        for (Pair<RelativePositionFactory.ReadWrite<Object, ?>, RelativePositionFactory.ReadWrite<Object, ?>> mapping : mappings) {
+            mapped.add(new Step(mapping.getLeft(), mapping.getRight(), sourceProperties, targetProperties));
+        }
+        this.mapped = Collections.unmodifiableList(mapped);
+
+        final List<Step> matched = new ArrayList<>(matchedProperties.size());
+        for (String property : matchedProperties) {
+            final RelativePositionFactory.ReadWrite<Object, ?> factory = Property.optional(property);
+            matched.add(new Step(factory, factory, sourceProperties, targetProperties));
+        }
+        this.matched = Collections.unmodifiableList(matched);
+        this.lenient = lenient;
+    }
+
+    /**
+     * Learn whether {@code copy} is supported per this {@link CopyPlan}, following the semantics of
+     * {@link PropertyCopier#supports(TherianContext, Copy)}.
+     *
+     * @param context
+     * @param copy
+     * @return boolean
+     */
+    boolean supports(TherianContext context, Copy<?, ?> copy) {
+        final Object sourceBean = copy.getSourcePosition().getValue();
+
+        if (!mapped.isEmpty() && allSupported(context, copy, sourceBean, mapped)) {
+            return true;
+        }
+        if (lenient) {
+            for (Step step : matched) {
+                if (isSupported(context, copy, sourceBean, step, true)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return !matched.isEmpty() && allSupported(context, copy, sourceBean, matched);
+    }
+
+    /**
+     * Perform {@code copy} per this {@link CopyPlan}, following the semantics of
+     * {@link PropertyCopier#perform(TherianContext, Copy)}.
+     *
+     * @param context
+     * @param copy
+     * @return boolean
+     */
+    boolean perform(TherianContext context, Copy<?, ?> copy) {
+        final Object sourceBean = copy.getSourcePosition().getValue();
+        final Object targetBean = copy.getTargetPosition().getValue();
+
+        // as with dynamic copying, determine matched properties to copy before copying anything:
+        final boolean[] include = new boolean[matched.size()];
+        boolean result = !mapped.isEmpty();
+        for (int i = 0; i < include.length; i++) {
+            include[i] = !lenient || isSupported(context, copy, sourceBean, matched.get(i), true);
+            result |= include[i];
+        }
+        for (Step step : mapped) {
+            execute(context, copy, sourceBean, targetBean, step, false);
+        }
+        for (int i = 0; i < include.length; i++) {
+            if (include[i]) {
+                execute(context, copy, sourceBean, targetBean, matched.get(i), lenient);
+            }
+        }
+        return result;
+    }
+
+    private boolean allSupported(TherianContext context, Copy<?, ?> copy, Object sourceBean, List<Step> steps) {
+        for (Step step : steps) {
+            if (!isSupported(context, copy, sourceBean, step, false)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSupported(TherianContext context, Copy<?, ?> copy, Object sourceBean, Step step,
+        boolean safely) {
+        if (step.isDirect() && step.canWrite(context, step.read(copy, sourceBean))) {
+            return true;
+        }
+        return context.supports(step.toCopy(copy, safely));
+    }
+
+    private void execute(TherianContext context, Copy<?, ?> copy, Object sourceBean, Object targetBean, Step step,
+        boolean safely) {
+        if (step.isDirect()) {
+            final Object value = step.read(copy, sourceBean);
+            if (step.canWrite(context, value)) {
+                step.write(copy, targetBean, value);
+                return;
+            }
+        }
+        final Copy<?, ?> nestedCopy = step.toCopy(copy, safely);
+        if (!context.evalSuccess(nestedCopy)) {
+            throw new OperationException(nestedCopy);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package therian.operator.copy;
 
+import java.lang.reflect.Type;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.IntFunction;
 
@@ -17,6 +19,7 @@ import therian.operator.size.SizeOfIterable;
 import therian.position.Position;
 import therian.position.Position.ReadWrite;
 import therian.position.relative.Element;
+import therian.util.Positions;
 
 /**
  * Tries to copy between arrays/iterables using {@link Element} positions. This should be more efficient than
@@ -39,9 +42,30 @@ public class ElementCopier extends OperatorBase<Copy<?, ?>> {
         return null;
     }
 
+    /**
+     * Reading a non-{@link List} {@link Iterable} by index restarts its iteration per element; instead read its
+     * elements in a single pass, from an {@link Iterator} confined to the current copy.
+     */
+    @SuppressWarnings("unchecked")
+    private static IntFunction<? extends Position.Readable<?>> createSourceElementFactory(
+        final Position.Readable<?> source) {
+        final Object value = source.getValue();
+        if (value instanceof Iterable<?> && !(value instanceof List<?>)
+            && TypeUtils.isAssignable(source.getType(), Iterable.class)) {
+            final IntFunction<ReadWrite<?>> byIndex = createElementFactory(source);
+            final Type elementType = Element.atIndex(0).of((Position.Readable<Iterable<?>>) source).getType();
+            final Iterator<?> elements = ((Iterable<?>) value).iterator();
+
+            return index -> elements.hasNext() ? Positions.readOnly(elementType, elements.next())
+                : byIndex.apply(index);
+        }
+        return createElementFactory(source);
+    }
+
     @Override
     public boolean perform(TherianContext context, Copy<?, ?> copy) {
-        final IntFunction<ReadWrite<?>> sourceElementFactory = createElementFactory(copy.getSourcePosition());
+        final IntFunction<? extends Position.Readable<?>> sourceElementFactory =
+            createSourceElementFactory(copy.getSourcePosition());
         final IntFunction<ReadWrite<?>> targetElementFactory = createElementFactory(copy.getTargetPosition());
         for (int i = 0, sz = context.eval(Size.of(copy.getSourcePosition())); i < sz; i++) {
             if (context.evalSuccess(Copy.to(targetElementFactory.apply(i), sourceElementFactory.apply(i)))) {
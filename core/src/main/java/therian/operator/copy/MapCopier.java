@@ -17,6 +17,8 @@ package therian.operator.copy;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -32,10 +34,12 @@ import therian.operation.Convert;
 import therian.operation.Copy;
 import therian.operator.add.AddEntryToMap;
 import therian.position.Position;
+import therian.util.InternedTypes;
 import therian.util.Positions;
 
 /**
- * Copies between maps, handling supported conversions between keys/values.
+ * Copies between maps, handling supported conversions between keys/values, which may be done in parallel per
+ * {@link Parallelism}.
  */
 @SuppressWarnings("rawtypes")
 @StandardOperator
@@ -61,21 +65,35 @@ public class MapCopier extends Copier<Map, Map> {
         if (targetKeyType == null || targetValueType == null) {
             targetEntryType = Map.Entry.class;
         } else {
-            targetEntryType = TypeUtils.parameterize(Map.Entry.class, targetKeyType, targetValueType);
+            targetEntryType = InternedTypes.parameterize(Map.Entry.class, targetKeyType, targetValueType);
         }
 
         final Map<?, ?> sourceMap = copy.getSourcePosition().getValue();
-        for (Map.Entry<?, ?> e : sourceMap.entrySet()) {
+        final List<Map.Entry<?, ?>> sourceEntries = new ArrayList<>(sourceMap.entrySet());
+        final Object[] targetKeys = new Object[sourceEntries.size()];
+        final Object[] targetValues = new Object[sourceEntries.size()];
+
+        if (!Parallelism.evaluate(context, sourceEntries.size(), (i, hints) -> {
+            final Map.Entry<?, ?> e = sourceEntries.get(i);
             final Position.ReadWrite<?> targetKey = Positions.readWrite(targetKeyType);
             final Position.ReadWrite<?> targetValue = Positions.readWrite(targetValueType);
 
-            if (!context.evalSuccess(Convert.to(targetKey, Positions.readOnly(sourceKeyType, e.getKey())))) {
+            if (!context.evalSuccess(Convert.to(targetKey, Positions.readOnly(sourceKeyType, e.getKey())), hints)) {
                 return false;
             }
-            if (!context.evalSuccess(Convert.to(targetValue, Positions.readOnly(sourceValueType, e.getValue())))) {
+            if (!context.evalSuccess(Convert.to(targetValue, Positions.readOnly(sourceValueType, e.getValue())),
+                hints)) {
                 return false;
             }
-            final MutablePair<?, ?> newEntry = MutablePair.of(targetKey.getValue(), targetValue.getValue());
+            targetKeys[i] = targetKey.getValue();
+            targetValues[i] = targetValue.getValue();
+            return true;
+        })) {
+            return false;
+        }
+        // add in source order:
+        for (int i = 0; i < targetKeys.length; i++) {
+            final MutablePair<?, ?> newEntry = MutablePair.of(targetKeys[i], targetValues[i]);
             if (!context.evalSuccess(Add.to(copy.getTargetPosition(),
                 Positions.<Map.Entry> readOnly(targetEntryType, newEntry)))) {
                 return false;
@@ -108,7 +126,7 @@ public class MapCopier extends Copier<Map, Map> {
         if (targetKeyType == null || targetValueType == null) {
             targetEntryType = Map.Entry.class;
         } else {
-            targetEntryType = TypeUtils.parameterize(Map.Entry.class, targetKeyType, targetValueType);
+            targetEntryType = InternedTypes.parameterize(Map.Entry.class, targetKeyType, targetValueType);
         }
         // assume that if we can add a single entry we can add them all :|
         if (!context.supports(Add.to(copy.getTargetPosition(),
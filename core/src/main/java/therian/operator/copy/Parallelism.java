@@ -0,0 +1,182 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.copy;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.commons.lang3.Validate;
+
+import therian.Hint;
+import therian.TherianContext;
+
+/**
+ * {@link Hint} permitting {@link ContainerCopier} and {@link MapCopier} to convert the elements/entries of sufficiently
+ * large sources in parallel, in chunks, on a {@link ForkJoinPool}. Converted elements are always merged into the
+ * target in source order. Worker threads evaluate against the same {@link TherianContext} with the {@link Hint}s in
+ * effect for the calling thread; as that context keeps evaluation state per thread, each worker starts from a fresh
+ * evaluation, so that neither cached results nor recursion detection extend across threads. Because a
+ * {@link ForkJoinPool} worker awaiting a task may run other pending tasks on its own stack, interleaving them with any
+ * evaluation it has in progress, copying is sequential on {@link ForkJoinPool} threads, including within a parallel
+ * copy; for the same reason, {@link therian.Operator}s should not await {@link ForkJoinPool} tasks. Absent this
+ * {@link Hint}, copying is sequential.
+ *
+ * @since 0.7
+ */
+public final class Parallelism implements Hint {
+
+    /**
+     * Per-index task.
+     */
+    @FunctionalInterface
+    interface Task {
+        /**
+         * Evaluate the task for {@code index}.
+         *
+         * @param index
+         * @param hints to apply to any evaluation
+         * @return whether successful
+         */
+        boolean evaluate(int index, Hint[] hints);
+    }
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static class Chunk extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final Task task;
+        private final Hint[] hints;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        Chunk(Task task, Hint[] hints, int from, int to, int chunkSize) {
+            this.task = task;
+            this.hints = hints;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (to - from <= chunkSize) {
+                return Boolean.valueOf(evaluateSequentially(task, hints, from, to));
+            }
+            final int middle = (from + to) >>> 1;
+            final Chunk left = new Chunk(task, hints, from, middle, chunkSize);
+            left.fork();
+            final boolean right = new Chunk(task, hints, middle, to, chunkSize).compute().booleanValue();
+            return Boolean.valueOf(left.join().booleanValue() && right);
+        }
+    }
+
+    /**
+     * Create a {@link Parallelism} {@link Hint} using the common {@link ForkJoinPool}.
+     *
+     * @param threshold minimum number of elements/entries to process in parallel
+     * @return {@link Parallelism}
+     */
+    public static Parallelism of(int threshold) {
+        return of(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a {@link Parallelism} {@link Hint}.
+     *
+     * @param threshold minimum number of elements/entries to process in parallel
+     * @param pool to use
+     * @return {@link Parallelism}
+     */
+    public static Parallelism of(int threshold, ForkJoinPool pool) {
+        return new Parallelism(threshold, pool);
+    }
+
+    /**
+     * Evaluate {@code task} for each index in {@code [0, size)}, in parallel if so hinted.
+     *
+     * @param context
+     * @param size
+     * @param task
+     * @return whether all evaluations were successful
+     */
+    static boolean evaluate(TherianContext context, int size, Task task) {
+        final Hint[] hints = context.getHints();
+        final Parallelism parallelism = context.getTypedContext(Parallelism.class);
+        if (parallelism == null || size < parallelism.threshold || ForkJoinTask.inForkJoinPool()) {
+            return evaluateSequentially(task, hints, 0, size);
+        }
+        final int chunkSize = Math.max(1, size / (parallelism.pool.getParallelism() * CHUNKS_PER_THREAD));
+        return parallelism.pool.invoke(new Chunk(task, hints, 0, size, chunkSize)).booleanValue();
+    }
+
+    private static boolean evaluateSequentially(Task task, Hint[] hints, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!task.evaluate(i, hints)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    private Parallelism(int threshold, ForkJoinPool pool) {
+        Validate.isTrue(threshold > 0, "threshold must be > 0");
+        this.threshold = threshold;
+        this.pool = Validate.notNull(pool, "pool");
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public Class<? extends Hint> getType() {
+        return Parallelism.class;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof Parallelism)) {
+            return false;
+        }
+        final Parallelism other = (Parallelism) obj;
+        return threshold == other.threshold && pool == other.pool;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Integer.valueOf(threshold), pool);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[threshold=%s, parallelism=%s]", Parallelism.class.getSimpleName(), threshold,
+            pool.getParallelism());
+    }
+}
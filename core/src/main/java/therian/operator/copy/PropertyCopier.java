@@ -47,6 +47,7 @@ import therian.position.relative.Expression;
 import therian.position.relative.Property;
 import therian.position.relative.RelativePositionFactory;
 import therian.util.BeanProperties;
+import therian.util.BoundedCache;
 import therian.util.BeanProperties.ReturnProperties;
 import uelbox.UEL;
 
@@ -145,6 +146,32 @@ public abstract class PropertyCopier<SOURCE, TARGET> extends Copier<SOURCE, TARG
         }
     }
 
+    /**
+     * Describes whether a {@link PropertyCopier} may copy between bean classes according to a {@link CopyPlan}
+     * computed once per pair of runtime source and target classes. Such a plan copies immutable property values that
+     * are directly assignable using method handles, bypassing any {@link therian.operator.convert.Converter}s,
+     * {@link Copier}s and {@link javax.el.ELResolver}s that would otherwise apply to those properties; it must
+     * therefore be requested explicitly. Default {@link #DYNAMIC}.
+     *
+     * @since 0.7
+     */
+    public enum Planning implements Hint {
+        /**
+         * Indicates that precomputed copy plans may be used.
+         */
+        COMPILED,
+
+        /**
+         * Indicates that every copy will be dynamically evaluated.
+         */
+        DYNAMIC;
+
+        @Override
+        public Class<? extends Hint> getType() {
+            return Planning.class;
+        }
+    }
+
     /**
      * Result from
      * {@link PropertyCopier#getInstance(Typed, Typed, therian.operator.copy.PropertyCopier.Mapping, therian.operator.copy.PropertyCopier.Matching)}.
@@ -223,8 +250,11 @@ public abstract class PropertyCopier<SOURCE, TARGET> extends Copier<SOURCE, TARG
         return optional ? Property.optional(s) : Property.at(s);
     }
 
+    private static final int PLAN_CACHE_SIZE = 256;
+
     private final List<Pair<RelativePositionFactory.ReadWrite<Object, ?>, RelativePositionFactory.ReadWrite<Object, ?>>> mappings;
     private final Matching matching;
+    private final BoundedCache<Pair<Class<?>, Class<?>>, CopyPlan> plans = new BoundedCache<>(PLAN_CACHE_SIZE);
 
     protected PropertyCopier() {
         try {
@@ -274,6 +304,10 @@ public abstract class PropertyCopier<SOURCE, TARGET> extends Copier<SOURCE, TARG
         if (nullBehavior == NullBehavior.UNSUPPORTED) {
             return false;
         }
+        final CopyPlan plan = getPlan(context, copy);
+        if (plan != null) {
+            return plan.perform(context, copy);
+        }
         final Iterable<Copy<?, ?>> mapped = map(context, copy);
         if (nullBehavior == NullBehavior.NOOP && mapped.iterator().hasNext()) {
             return true;
@@ -296,6 +330,10 @@ public abstract class PropertyCopier<SOURCE, TARGET> extends Copier<SOURCE, TARG
             && context.getTypedContext(NullBehavior.class, defaultNullBehavior()) == NullBehavior.UNSUPPORTED) {
             return false;
         }
+        final CopyPlan plan = getPlan(context, copy);
+        if (plan != null) {
+            return plan.supports(context, copy);
+        }
         return handle(context, Phase.SUPPORT_CHECK, map(context, copy))
             || handle(context, Phase.SUPPORT_CHECK, match(context, copy));
     }
@@ -324,6 +362,20 @@ public abstract class PropertyCopier<SOURCE, TARGET> extends Copier<SOURCE, TARG
         return result;
     }
 
+    private CopyPlan getPlan(TherianContext context, Copy<? extends SOURCE, ? extends TARGET> copy) {
+        if (context.getTypedContext(Planning.class, Planning.DYNAMIC) != Planning.COMPILED) {
+            return null;
+        }
+        final Object source = copy.getSourcePosition().getValue();
+        final Object target = copy.getTargetPosition().getValue();
+        if (source == null || target == null || !CopyPlan.isPlannable(source.getClass())
+            || !CopyPlan.isPlannable(target.getClass())) {
+            return null;
+        }
+        return plans.computeIfAbsent(Pair.of(source.getClass(), target.getClass()),
+            k -> new CopyPlan(k.getLeft(), k.getRight(), mappings, matchedProperties(context, copy), isLenient()));
+    }
+
     protected NullBehavior defaultNullBehavior() {
         return NullBehavior.NOOP;
     }
@@ -347,27 +399,40 @@ public abstract class PropertyCopier<SOURCE, TARGET> extends Copier<SOURCE, TARG
         return result;
     }
 
-    private Iterable<Copy<?, ?>> match(final TherianContext context, Copy<? extends SOURCE, ? extends TARGET> copy) {
+    /**
+     * Learn whether properties are matched leniently, i.e. none are explicitly specified for matching, such that we
+     * take whatever we can get.
+     */
+    private boolean isLenient() {
+        return matching != null && matching.value().length == 0;
+    }
+
+    private Set<String> matchedProperties(final TherianContext context,
+        Copy<? extends SOURCE, ? extends TARGET> copy) {
         if (matching == null) {
             return Collections.emptySet();
         }
         final Set<String> properties = new HashSet<>(Arrays.asList(matching.value()));
 
-        // if no properties were explicitly specified for matching, take whatever we can get
-        final boolean lenient = properties.isEmpty();
-        if (lenient) {
+        if (isLenient()) {
             properties
                 .addAll(BeanProperties.getPropertyNames(ReturnProperties.WRITABLE, context, copy.getTargetPosition()));
             properties
                 .retainAll(BeanProperties.getPropertyNames(ReturnProperties.ALL, context, copy.getSourcePosition()));
         }
         properties.removeAll(Arrays.asList(matching.exclude()));
+        properties.removeIf(StringUtils::isBlank);
+        return properties;
+    }
+
+    private Iterable<Copy<?, ?>> match(final TherianContext context, Copy<? extends SOURCE, ? extends TARGET> copy) {
+        if (matching == null) {
+            return Collections.emptySet();
+        }
+        final boolean lenient = isLenient();
 
         final List<Copy<?, ?>> result = new ArrayList<>();
-        for (String property : properties) {
-            if (StringUtils.isBlank(property)) {
-                continue;
-            }
+        for (String property : matchedProperties(context, copy)) {
             final RelativePositionFactory.ReadWrite<Object, ?> factory = Property.optional(property);
             final Position.Readable<?> target = dereference(factory, copy.getTargetPosition());
             final Position.Readable<?> source = dereference(factory, copy.getSourcePosition());
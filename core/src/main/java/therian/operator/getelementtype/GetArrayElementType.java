@@ -17,17 +17,20 @@ package therian.operator.getelementtype;
 
 import org.apache.commons.lang3.reflect.TypeUtils;
 
+import therian.Reusable;
 import therian.TherianContext;
 import therian.buildweaver.StandardOperator;
 import therian.operation.GetElementType;
 import therian.operator.OperatorBase;
+import therian.util.InternedTypes;
 
+@Reusable(byProfile = true)
 @StandardOperator
 public class GetArrayElementType extends OperatorBase<GetElementType<Object>> {
 
     @Override
     public boolean perform(TherianContext context, GetElementType<Object> op) {
-        op.setResult(TypeUtils.getArrayComponentType(op.getTypedItem().getType()));
+        op.setResult(InternedTypes.intern(TypeUtils.getArrayComponentType(op.getTypedItem().getType())));
         return true;
     }
 
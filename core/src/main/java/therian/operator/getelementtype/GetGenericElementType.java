@@ -27,6 +27,7 @@ import therian.Operator;
 import therian.TherianContext;
 import therian.operation.GetElementType;
 import therian.operator.OptimisticOperatorBase;
+import therian.util.InternedTypes;
 
 /**
  * Abstract base class for {@link GetElementType} {@link Operator} implementations that resolve a {@link TypeVariable}
@@ -44,7 +45,7 @@ public abstract class GetGenericElementType<T> extends OptimisticOperatorBase<Ge
         final Type result = ObjectUtils.defaultIfNull(TypeUtils.unrollVariables(
             TypeUtils.getTypeArguments(op.getTypedItem().getType(), typeVariable.getGenericDeclaration()),
             typeVariable), Object.class);
-        op.setResult(result);
+        op.setResult(InternedTypes.intern(result));
         return true;
     }
 }
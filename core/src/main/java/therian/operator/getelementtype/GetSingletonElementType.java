@@ -17,6 +17,7 @@ package therian.operator.getelementtype;
 
 import org.apache.commons.lang3.reflect.TypeUtils;
 
+import therian.Reusable;
 import therian.TherianContext;
 import therian.buildweaver.StandardOperator;
 import therian.operation.GetElementType;
@@ -28,6 +29,7 @@ import therian.operator.convert.DefaultToListConverter;
  *
  * @see DefaultToListConverter
  */
+@Reusable(byProfile = true)
 @StandardOperator
 public class GetSingletonElementType extends OperatorBase<GetElementType<?>> {
 
@@ -17,8 +17,6 @@ package therian.operator.size;
 
 import java.util.Iterator;
 
-import org.apache.commons.lang3.reflect.TypeUtils;
-
 import therian.Operation;
 import therian.Operator;
 import therian.TherianContext;
@@ -46,6 +44,6 @@ public class SizeOfIterator implements Operator<Size<Iterator<?>>> {
 
     @Override
     public boolean supports(TherianContext context, Size<Iterator<?>> operation) {
-        return TypeUtils.isAssignable(operation.getPosition().getType(), Iterator.class);
+        return context.getAssignability().isAssignable(operation.getPosition().getType(), Iterator.class);
     }
 }
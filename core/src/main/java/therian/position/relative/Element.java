@@ -15,19 +15,16 @@
  */
 package therian.position.relative;
 
-import java.beans.FeatureDescriptor;
 import java.lang.reflect.Type;
-import java.util.Iterator;
+import java.lang.reflect.TypeVariable;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
-import therian.TherianContext;
-import therian.el.ELConstants;
 import therian.operation.Add;
 import therian.position.Position;
 import therian.util.Types;
@@ -73,34 +70,35 @@ public class Element {
                     return Types.refine(getBasicType(), parentPosition.getType());
                 }
 
+                /**
+                 * Resolve element type from the declared type of the parent position, falling back to the runtime
+                 * class of its value; neither requires enumerating the elements.
+                 */
                 private Type getBasicType() {
-                    final TherianContext context = TherianContext.getInstance();
+                    final Type declared = evaluateElementType(parentPosition.getType());
+                    if (declared != null && !(declared instanceof TypeVariable<?>)) {
+                        return declared;
+                    }
                     final P parent = parentPosition.getValue();
-
                     if (parent != null) {
-                        try {
-                            final String name = Integer.toString(index);
-
-                            for (Iterator<FeatureDescriptor> fd = IteratorUtils.filteredIterator(
-                                context.getELResolver().getFeatureDescriptors(context, parent),
-                                d -> name.equals(d.getName())); fd.hasNext();) {
-
-                                final Type fromGenericTypeAttribute =
-                                    Type.class.cast(fd.next().getValue(ELConstants.GENERIC_TYPE));
-                                if (fromGenericTypeAttribute != null) {
-                                    return fromGenericTypeAttribute;
-                                }
-                            }
-                        } catch (Exception e) {
+                        final Type fromRuntimeType = evaluateElementType(parent.getClass());
+                        if (fromRuntimeType != null && !(fromRuntimeType instanceof TypeVariable<?>)) {
+                            return fromRuntimeType;
                         }
                     }
-                    return ObjectUtils.defaultIfNull(evaluateElementType(parentPosition), Object.class);
+                    return ObjectUtils.defaultIfNull(declared, Object.class);
                 }
             }
             return new Result(parentPosition, index);
         }
 
-        protected abstract <P> Type evaluateElementType(Position<P> parentPosition);
+        /**
+         * Get the element type of {@code parentType}.
+         *
+         * @param parentType
+         * @return {@link Type} or {@code null}
+         */
+        protected abstract Type evaluateElementType(Type parentType);
 
         @Override
         public boolean equals(Object obj) {
@@ -149,8 +147,8 @@ public class Element {
             }
 
             @Override
-            protected <P> Type evaluateElementType(Position<P> parentPosition) {
-                return TypeUtils.getArrayComponentType(parentPosition.getType());
+            protected Type evaluateElementType(Type parentType) {
+                return TypeUtils.getArrayComponentType(parentType);
             }
         };
     }
@@ -170,9 +168,9 @@ public class Element {
             }
 
             @Override
-            protected <P> Type evaluateElementType(Position<P> parentPosition) {
-                return TypeUtils.getTypeArguments(parentPosition.getType(), Iterable.class)
-                    .get(Iterable.class.getTypeParameters()[0]);
+            protected Type evaluateElementType(Type parentType) {
+                final Map<TypeVariable<?>, Type> typeArguments = TypeUtils.getTypeArguments(parentType, Iterable.class);
+                return typeArguments == null ? null : typeArguments.get(Iterable.class.getTypeParameters()[0]);
             }
         };
     }
@@ -21,7 +21,6 @@ import java.util.Objects;
 
 import javax.el.ELContext;
 import javax.el.ELResolver;
-import javax.el.ExpressionFactory;
 import javax.el.PropertyNotFoundException;
 import javax.el.ValueExpression;
 
@@ -52,17 +51,34 @@ public class Expression {
      */
     public static class PositionFactory<TYPE> extends RelativePositionFactory.ReadWrite<Object, TYPE> {
 
-        private static class BaseContext extends ELContextWrapper {
-
-            private BaseContext(final ELContext wrapped, final Object base) {
-                super(wrapped);
-                getVariableMapper().setVariable(BASE_VARIABLE_NAME, UEL.getExpressionFactory(this)
-                    .createValueExpression(base, base == null ? Object.class : base.getClass()));
+        /**
+         * Resolves the (unbound) base identifier at evaluation time, allowing a single parsed {@link ValueExpression} to
+         * be evaluated against any base. Confined to one evaluation at a time, but reusable for successive evaluations
+         * against the same {@link TherianContext}.
+         */
+        private static class BaseResolvingContext extends ELContextWrapper {
+            private final TherianContext context;
+            private Object base;
+            private boolean inUse;
+
+            private BaseResolvingContext(final TherianContext context) {
+                super(context);
+                this.context = context;
             }
 
             @Override
             protected ELResolver wrap(ELResolver elResolver) {
-                return elResolver;
+                return new ELResolverWrapper(elResolver) {
+
+                    @Override
+                    public Object getValue(ELContext context, Object base, Object property) {
+                        if (base == null && BASE_IDENTIFIER.equals(property)) {
+                            context.setPropertyResolved(true);
+                            return BaseResolvingContext.this.base;
+                        }
+                        return super.getValue(context, base, property);
+                    }
+                };
             }
         }
 
@@ -74,6 +90,10 @@ public class Expression {
             }
 
             void record(ELContext context, Object base, Object property, Object value) {
+                if (base == null && BASE_IDENTIFIER.equals(property)) {
+                    // resolution of the base itself:
+                    return;
+                }
                 final Type baseType = current.getType();
 
                 if (TypeUtils.isArrayType(baseType)) {
@@ -100,10 +120,15 @@ public class Expression {
             }
         }
 
-        private static final String BASE_VARIABLE_NAME =
-            String.format("%s_baseVariable", Expression.PositionFactory.class.getName().replace('.', '_'));
+        private static final String BASE_IDENTIFIER =
+            String.format("%s_baseIdentifier", Expression.PositionFactory.class.getName().replace('.', '_'));
 
         private final String expr;
+
+        /**
+         * {@link #expr} against the base identifier, as parsed.
+         */
+        private final String resolvingExpr;
         private final boolean optional;
 
         private PositionFactory(final String expr) {
@@ -112,6 +137,7 @@ public class Expression {
 
         private PositionFactory(final String expr, boolean optional) {
             this.expr = UEL.strip(expr);
+            this.resolvingExpr = UEL.join(BASE_IDENTIFIER, this.expr);
             this.optional = optional;
         }
 
@@ -125,6 +151,9 @@ public class Expression {
                 // cache most recent type calculation by context:
                 private Pair<TherianContext, Type> cachedType;
 
+                // most recent resolving context:
+                private BaseResolvingContext resolvingContext;
+
                 protected Result(Position.Readable<P> parentPosition, String expr) {
                     super(parentPosition, expr);
                 }
@@ -144,8 +173,9 @@ public class Expression {
                     }
 
                     if (result == null) {
-                        final BaseContext baseContext = new BaseContext(context, parentPosition.getValue());
-                        final ValueExpression valueExpression = getExpression(baseContext);
+                        final BaseResolvingContext baseContext = new BaseResolvingContext(context);
+                        baseContext.base = parentPosition.getValue();
+                        final ValueExpression valueExpression = context.getValueExpression(resolvingExpr);
                         final HelperELContext<Type> helperELContext = new HelperELContext<Type>(baseContext) {
 
                             @Override
@@ -194,6 +224,7 @@ public class Expression {
                                     return new ELResolverWrapper(UEL.nopELResolver()) {
                                         @Override
                                         public Object getValue(ELContext context, Object base, Object property) {
+                                            // the base itself resolves to the initial position value:
                                             workingStorage.record(context, base, property, null);
                                             context.setPropertyResolved(true);
                                             try {
@@ -243,40 +274,63 @@ public class Expression {
                 @Override
                 public TYPE getValue() {
                     final TherianContext context = TherianContext.getInstance();
-                    final ValueExpression valueExpression =
-                        getExpression(new BaseContext(context, parentPosition.getValue()));
+                    final BaseResolvingContext baseResolvingContext = acquireResolvingContext(context);
                     try {
                         @SuppressWarnings("unchecked")
-                        final TYPE result = (TYPE) valueExpression.getValue(context);
+                        final TYPE result =
+                            (TYPE) context.getValueExpression(resolvingExpr).getValue(baseResolvingContext);
                         return result;
                     } catch (PropertyNotFoundException e) {
                         if (optional) {
                             return null;
                         }
                         throw e;
+                    } finally {
+                        release(baseResolvingContext);
                     }
                 }
 
                 @Override
                 public void setValue(TYPE value) {
                     final TherianContext context = TherianContext.getInstance();
-                    final ValueExpression valueExpression =
-                        getExpression(new BaseContext(context, parentPosition.getValue()));
-
+                    final BaseResolvingContext baseResolvingContext = acquireResolvingContext(context);
                     try {
-                        valueExpression.setValue(context, value);
+                        context.getValueExpression(resolvingExpr).setValue(baseResolvingContext, value);
                     } catch (PropertyNotFoundException e) {
                         if (optional) {
                             return;
                         }
                         throw e;
+                    } finally {
+                        release(baseResolvingContext);
+                    }
+                }
+
+                /**
+                 * Get a {@link BaseResolvingContext} for {@code context}, bound to the current parent value, reusing
+                 * the most recent one unless it belongs to another context or is in use (e.g. by a nested or
+                 * concurrent evaluation).
+                 */
+                private BaseResolvingContext acquireResolvingContext(TherianContext context) {
+                    final Object base = parentPosition.getValue();
+                    BaseResolvingContext result;
+                    synchronized (this) {
+                        result = resolvingContext;
+                        if (result == null || result.context != context || result.inUse) {
+                            result = new BaseResolvingContext(context);
+                            resolvingContext = result;
+                        }
+                        result.inUse = true;
                     }
+                    result.base = base;
+                    return result;
                 }
 
-                private ValueExpression getExpression(ELContext context) {
-                    final ExpressionFactory expressionFactory = UEL.getExpressionFactory(context);
-                    return expressionFactory.createValueExpression(context, UEL.join(BASE_VARIABLE_NAME, expr),
-                        Object.class);
+                private void release(BaseResolvingContext baseResolvingContext) {
+                    baseResolvingContext.base = null;
+                    synchronized (this) {
+                        baseResolvingContext.inUse = false;
+                    }
                 }
             }
             return new Result(parentPosition, expr);
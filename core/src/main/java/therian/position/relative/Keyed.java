@@ -15,18 +15,14 @@
  */
 package therian.position.relative;
 
-import java.beans.FeatureDescriptor;
 import java.lang.reflect.Type;
-import java.util.Iterator;
+import java.lang.reflect.TypeVariable;
 import java.util.Map;
 import java.util.Objects;
 
-import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
-import therian.TherianContext;
-import therian.el.ELConstants;
 import therian.position.Position.Readable;
 import therian.util.Types;
 
@@ -36,6 +32,11 @@ import therian.util.Types;
  */
 public class Keyed {
 
+    private static Type getValueType(Type mapType) {
+        final Map<TypeVariable<?>, Type> typeArguments = TypeUtils.getTypeArguments(mapType, Map.class);
+        return typeArguments == null ? null : typeArguments.get(Map.class.getTypeParameters()[1]);
+    }
+
     /**
      * Keyed value {@link RelativePositionFactory}.
      *
@@ -63,28 +64,23 @@ public class Keyed {
                     return Types.refine(getBasicType(), parentPosition.getType());
                 }
 
+                /**
+                 * Resolve value type from the declared type of the parent position, falling back to the runtime class
+                 * of its value; neither requires enumerating the entries.
+                 */
                 private Type getBasicType() {
-                    final TherianContext context = TherianContext.getInstance();
+                    final Type declared = getValueType(parentPosition.getType());
+                    if (declared != null && !(declared instanceof TypeVariable<?>)) {
+                        return declared;
+                    }
                     final P parent = parentPosition.getValue();
-
                     if (parent != null) {
-                        try {
-                            final String name = String.valueOf(key);
-                            for (Iterator<FeatureDescriptor> fd =
-                                IteratorUtils.filteredIterator(
-                                    context.getELResolver().getFeatureDescriptors(context, parent),
-                                    d -> name.equals(d.getName())); fd.hasNext();) {
-                                final Type fromGenericTypeAttribute =
-                                    Type.class.cast(fd.next().getValue(ELConstants.GENERIC_TYPE));
-                                if (fromGenericTypeAttribute != null) {
-                                    return fromGenericTypeAttribute;
-                                }
-                            }
-                        } catch (Exception e) {
+                        final Type fromRuntimeType = getValueType(parent.getClass());
+                        if (fromRuntimeType != null && !(fromRuntimeType instanceof TypeVariable<?>)) {
+                            return fromRuntimeType;
                         }
                     }
-                    return ObjectUtils.defaultIfNull(TypeUtils.getTypeArguments(parentPosition.getType(), Map.class)
-                        .get(Map.class.getTypeParameters()[1]), Object.class);
+                    return ObjectUtils.defaultIfNull(declared, Object.class);
                 }
             }
             return new Result(parentPosition, key);
@@ -15,32 +15,28 @@
  */
 package therian.position.relative;
 
-import java.beans.FeatureDescriptor;
 import java.beans.IndexedPropertyDescriptor;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
-import javax.el.ELResolver;
-
-import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
 import therian.TherianContext;
-import therian.el.ELConstants;
+import therian.el.TherianContextELResolver;
 import therian.position.Position;
 import therian.util.Types;
 
@@ -52,47 +48,45 @@ public class Property {
     private static final Logger LOG = LogManager.getLogManager().getLogger(Property.class.getName());
     private static final String THERIAN_PROPERTY_METHOD_WEAVER = "therian-property-method-weaver";
 
-    private enum FeatureExtractionStrategy {
-        GENERIC_TYPE_ATTRIBUTE {
+    /**
+     * Generic types of bean properties per {@link Introspector}, by class and property name.
+     */
+    private static final ClassValue<Map<String, Type>> PROPERTY_DESCRIPTOR_TYPES = new ClassValue<Map<String, Type>>() {
 
-            @Override
-            Type getType(FeatureDescriptor feature) {
-                return Type.class.cast(feature.getValue(ELConstants.GENERIC_TYPE));
+        @Override
+        protected Map<String, Type> computeValue(Class<?> type) {
+            final PropertyDescriptor[] descriptors;
+            try {
+                descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+            } catch (IntrospectionException e) {
+                if (LOG.isLoggable(Level.WARNING)) {
+                    LOG.log(Level.WARNING, String.format("Could not introspect %s", type), e);
+                }
+                return Collections.emptyMap();
             }
-        },
-        PROPERTY_DESCRIPTOR {
-
-            @Override
-            Type getType(FeatureDescriptor feature) {
-                if (feature instanceof PropertyDescriptor) {
-                    PropertyDescriptor pd = (PropertyDescriptor) feature;
-                    Method readMethod = pd.getReadMethod();
-                    if (readMethod != null) {
-                        return readMethod.getGenericReturnType();
-                    }
-                    Method writeMethod = pd.getWriteMethod();
-                    if (writeMethod != null) {
-                        final int arg = pd instanceof IndexedPropertyDescriptor ? 1 : 0;
-                        return writeMethod.getGenericParameterTypes()[arg];
-                    }
+            final Map<String, Type> result = new HashMap<>();
+            for (PropertyDescriptor pd : descriptors) {
+                final Type propertyType = getType(pd);
+                if (propertyType != null) {
+                    result.putIfAbsent(pd.getName(), propertyType);
                 }
-                return null;
             }
-        },
-        TYPE_ATTRIBUTE {
+            return Collections.unmodifiableMap(result);
+        }
 
-            @Override
-            Type getType(FeatureDescriptor feature) {
-                return Class.class.cast(feature.getValue(ELResolver.TYPE));
+        private Type getType(PropertyDescriptor pd) {
+            final Method readMethod = pd.getReadMethod();
+            if (readMethod != null) {
+                return readMethod.getGenericReturnType();
             }
-        };
-
-        abstract Type getType(FeatureDescriptor feature);
-
-        Optional<Type> findType(Stream<? extends FeatureDescriptor> features) {
-            return features.map(this::getType).filter(Objects::nonNull).findFirst();
+            final Method writeMethod = pd.getWriteMethod();
+            if (writeMethod != null) {
+                final int arg = pd instanceof IndexedPropertyDescriptor ? 1 : 0;
+                return writeMethod.getGenericParameterTypes()[arg];
+            }
+            return null;
         }
-    }
+    };
 
     public static class PositionFactory<PARENT, TYPE> extends RelativePositionFactory.ReadWrite<PARENT, TYPE> {
 
@@ -128,17 +122,14 @@ public class Property {
                 private Type getBasicType() {
                     final TherianContext context = TherianContext.getInstance();
                     final P parent = parentPosition.getValue();
-                    final Predicate<FeatureDescriptor> featureMatchingName = d -> propertyName.equals(d.getName());
-
-                    Stream<FeatureDescriptor> matchingFeatures = Stream.empty();
+                    Optional<TherianContextELResolver.Feature> feature = Optional.empty();
                     if (parent != null) {
                         try {
-                            matchingFeatures =
-                                IteratorUtils.toList(context.getELResolver().getFeatureDescriptors(context, parent))
-                                    .stream().filter(featureMatchingName);
+                            feature = Optional
+                                .ofNullable(TherianContextELResolver.getFeatures(context, parent).get(propertyName));
 
                             final Optional<Type> fromGenericTypeAttribute =
-                                FeatureExtractionStrategy.GENERIC_TYPE_ATTRIBUTE.findType(matchingFeatures);
+                                feature.map(TherianContextELResolver.Feature::getGenericType);
                             if (fromGenericTypeAttribute.isPresent()) {
                                 return fromGenericTypeAttribute.get();
                             }
@@ -146,24 +137,16 @@ public class Property {
                         }
                     }
 
-                    final Type parentType = parentPosition.getType();
-                    final Class<?> rawParentType = TypeUtils.getRawType(parentType, null);
-                    try {
-                        final Optional<Type> fromPropertyDescriptor =
-                            FeatureExtractionStrategy.PROPERTY_DESCRIPTOR.findType(Arrays.stream(
-                                Introspector.getBeanInfo(rawParentType).getPropertyDescriptors()).filter(
-                                featureMatchingName));
-
-                        if (fromPropertyDescriptor.isPresent()) {
-                            return fromPropertyDescriptor.get();
-                        }
-                    } catch (IntrospectionException e) {
-                        if (LOG.isLoggable(Level.WARNING)) {
-                            LOG.log(Level.WARNING, String.format("Could not introspect %s", rawParentType), e);
+                    final Class<?> rawParentType = TypeUtils.getRawType(parentPosition.getType(), null);
+                    if (rawParentType != null) {
+                        final Type fromPropertyDescriptor =
+                            PROPERTY_DESCRIPTOR_TYPES.get(rawParentType).get(propertyName);
+                        if (fromPropertyDescriptor != null) {
+                            return fromPropertyDescriptor;
                         }
                     }
-                    final Optional<Type> fromTypeAttribute =
-                        FeatureExtractionStrategy.TYPE_ATTRIBUTE.findType(matchingFeatures);
+                    final Optional<Class<?>> fromTypeAttribute =
+                        feature.map(TherianContextELResolver.Feature::getType);
                     if (fromTypeAttribute.isPresent()) {
                         return fromTypeAttribute.get();
                     }
@@ -0,0 +1,124 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.util;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+/**
+ * Memoizes {@link TypeUtils#isAssignable(Type, Type)} by pair of {@link InternedTypes interned} types in a
+ * thread-safe, size-bounded table. Answers are those of {@link TypeUtils}; {@code null} types and pairs of
+ * {@link Class}es, which are answered about as cheaply as they could be looked up, are not memoized.
+ *
+ * @since 0.7
+ */
+public class Assignability {
+    /**
+     * Default approximate maximum number of memoized type pairs.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+
+    private static class Key {
+        final Type type;
+        final Type toType;
+        final int hashCode;
+
+        Key(Type type, Type toType) {
+            this.type = type;
+            this.toType = toType;
+            this.hashCode = 31 * type.hashCode() + toType.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return other.hashCode == hashCode && Objects.equals(type, other.type)
+                && Objects.equals(toType, other.toType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private final BoundedCache<Key, Boolean> memo;
+
+    /**
+     * Create a new {@link Assignability} of {@link #DEFAULT_CACHE_SIZE}.
+     */
+    public Assignability() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Create a new {@link Assignability}.
+     *
+     * @param maximumSize approximate maximum number of memoized type pairs
+     */
+    public Assignability(int maximumSize) {
+        memo = new BoundedCache<>(maximumSize);
+    }
+
+    /**
+     * Learn whether {@code type} is assignable to {@code toType}.
+     *
+     * @param type
+     * @param toType
+     * @return boolean
+     * @see TypeUtils#isAssignable(Type, Type)
+     */
+    public boolean isAssignable(Type type, Type toType) {
+        if (type == null || toType == null || type instanceof Class<?> && toType instanceof Class<?>) {
+            return TypeUtils.isAssignable(type, toType);
+        }
+        final Key key = new Key(InternedTypes.intern(type), InternedTypes.intern(toType));
+        return memo.computeIfAbsent(key, k -> Boolean.valueOf(TypeUtils.isAssignable(k.type, k.toType)))
+            .booleanValue();
+    }
+
+    /**
+     * Learn whether {@code value} is an instance of {@code type}.
+     *
+     * @param value
+     * @param type
+     * @return boolean
+     * @see TypeUtils#isInstance(Object, Type)
+     */
+    public boolean isInstance(Object value, Type type) {
+        if (value == null || type == null) {
+            return TypeUtils.isInstance(value, type);
+        }
+        return isAssignable(value.getClass(), type);
+    }
+
+    /**
+     * Get statistics for the memo table.
+     *
+     * @return {@link BoundedCache.Stats}
+     */
+    public BoundedCache.Stats getStats() {
+        return memo.getStats();
+    }
+}
@@ -18,17 +18,16 @@ package therian.util;
 import java.beans.FeatureDescriptor;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
-import java.util.Arrays;
+import java.beans.PropertyDescriptor;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
 import therian.TherianContext;
+import therian.el.TherianContextELResolver;
 import therian.position.Position;
 
 /**
@@ -47,29 +46,41 @@ public class BeanProperties {
     public static Set<String> getPropertyNames(ReturnProperties returnProperties, TherianContext context,
         Position.Readable<?> position) {
 
-        List<? extends FeatureDescriptor> descriptors;
-        // first try ELResolver:
+        final Object bean = position.getValue();
 
+        // first try ELResolver:
+        Map<String, TherianContextELResolver.Feature> features;
         try {
-            descriptors =
-                IteratorUtils.toList(context.getELResolver().getFeatureDescriptors(context, position.getValue()));
+            features = TherianContextELResolver.getFeatures(context, bean);
         } catch (Exception e) {
-            descriptors = null;
+            features = Collections.emptyMap();
         }
 
-        if (CollectionUtils.isEmpty(descriptors)) {
-            // java.beans introspection; on RT type if available, else raw position type:
-            final Class<?> beanType;
-            if (position.getValue() == null) {
-                beanType = TypeUtils.getRawType(position.getType(), null);
-            } else {
-                beanType = position.getValue().getClass();
+        if (!features.isEmpty()) {
+            if (returnProperties == ReturnProperties.ALL) {
+                return new HashSet<>(features.keySet());
             }
-            try {
-                descriptors = Arrays.asList(Introspector.getBeanInfo(beanType).getPropertyDescriptors());
-            } catch (IntrospectionException e1) {
-                return Collections.emptySet();
+            final Set<String> result = new HashSet<>();
+            for (TherianContextELResolver.Feature feature : features.values()) {
+                if (!feature.isReadOnly(context, bean)) {
+                    result.add(feature.getName());
+                }
             }
+            return result;
+        }
+
+        // java.beans introspection; on RT type if available, else raw position type:
+        final Class<?> beanType;
+        if (bean == null) {
+            beanType = TypeUtils.getRawType(position.getType(), null);
+        } else {
+            beanType = bean.getClass();
+        }
+        final PropertyDescriptor[] descriptors;
+        try {
+            descriptors = Introspector.getBeanInfo(beanType).getPropertyDescriptors();
+        } catch (IntrospectionException e1) {
+            return Collections.emptySet();
         }
 
         final Set<String> result = new HashSet<>();
@@ -77,7 +88,7 @@ public class BeanProperties {
             final String name = fd.getName();
             if (returnProperties == ReturnProperties.WRITABLE) {
                 try {
-                    if (context.getELResolver().isReadOnly(context, position.getValue(), name)) {
+                    if (context.getELResolver().isReadOnly(context, bean, name)) {
                         continue;
                     }
                 } catch (Exception e) {
@@ -0,0 +1,231 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Thread-safe, size-bounded cache. Entries are spread across independently locked segments, each of which evicts its
+ * least recently used entry when full; eviction is thus approximately, rather than strictly, LRU. {@code null} keys and
+ * values are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedCache<K, V> {
+
+    /**
+     * Snapshot of {@link BoundedCache} statistics.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        Stats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[hits=%s, misses=%s, evictions=%s, size=%s]", Stats.class.getSimpleName(), hits,
+                misses, evictions, size);
+        }
+    }
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private class Segment extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final Segment[] segments;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a new {@link BoundedCache}.
+     *
+     * @param maximumSize approximate maximum number of entries
+     */
+    public BoundedCache(int maximumSize) {
+        Validate.isTrue(maximumSize > 0, "maximumSize must be > 0");
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2 <= maximumSize) {
+            segmentCount *= 2;
+        }
+        final int segmentCapacity = (maximumSize + segmentCount - 1) / segmentCount;
+
+        // generic array creation is illegal; every element is a Segment of this cache's K, V:
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final Segment[] segments = new BoundedCache.Segment[segmentCount];
+        this.segments = segments;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        mask = segmentCount - 1;
+    }
+
+    private Segment segmentFor(Object key) {
+        final int h = key.hashCode();
+        return segments[(h ^ h >>> 16) & mask];
+    }
+
+    /**
+     * Get the value cached for {@code key}.
+     *
+     * @param key
+     * @return V or {@code null}
+     */
+    public V get(K key) {
+        final Segment segment = segmentFor(Validate.notNull(key, "key"));
+        final V result;
+        synchronized (segment) {
+            result = segment.get(key);
+        }
+        (result == null ? misses : hits).increment();
+        return result;
+    }
+
+    /**
+     * Cache {@code value} for {@code key}.
+     *
+     * @param key
+     * @param value
+     */
+    public void put(K key, V value) {
+        Validate.notNull(value, "value");
+        final Segment segment = segmentFor(Validate.notNull(key, "key"));
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    /**
+     * Get the value cached for {@code key}, computing and caching it if absent. Computation happens outside of any
+     * lock, so {@code mappingFunction} may itself use this cache; concurrent callers may compute redundantly, but only
+     * the first value cached is retained and returned.
+     *
+     * @param key
+     * @param mappingFunction may return {@code null}, in which case nothing is cached
+     * @return V or {@code null}
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        final V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final V value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+        final Segment segment = segmentFor(key);
+        synchronized (segment) {
+            final V raced = segment.putIfAbsent(key, value);
+            return raced == null ? value : raced;
+        }
+    }
+
+    /**
+     * Remove any value cached for {@code key}.
+     *
+     * @param key
+     */
+    public void remove(K key) {
+        final Segment segment = segmentFor(Validate.notNull(key, "key"));
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Remove all entries. Statistics are retained.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Get the current number of entries.
+     *
+     * @return int
+     */
+    public int size() {
+        int result = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                result += segment.size();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a snapshot of the statistics of this {@link BoundedCache}.
+     *
+     * @return {@link Stats}
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+}
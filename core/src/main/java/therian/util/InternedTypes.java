@@ -0,0 +1,293 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.util;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+/**
+ * Canonicalizes structurally equal {@link ParameterizedType}s, {@link GenericArrayType}s and {@link WildcardType}s to
+ * a shared instance whose hash code is computed once, so that types used repeatedly as (parts of) cache keys are
+ * neither rebuilt nor rehashed. Canonical instances are equal to any structurally equal implementation, comparing
+ * wildcards by their implicit bounds (so that {@code ?} equals {@code ? extends Object}), but hash like the JDK's
+ * reflective implementations; as other implementations (e.g. those of {@link TypeUtils}) hash differently, they
+ * should not be mixed with canonical or reflective instances as keys. Interning is best-effort (the table is bounded),
+ * so equality remains structural and identity is merely its fast path. {@link Class}es and {@link TypeVariable}s are
+ * already canonical and are returned as-is.
+ *
+ * @since 0.7
+ */
+public class InternedTypes {
+    /**
+     * Approximate maximum number of canonical types retained.
+     */
+    public static final int CACHE_SIZE = 4096;
+
+    private static final BoundedCache<Type, Type> CANONICAL = new BoundedCache<>(CACHE_SIZE);
+
+    private interface Interned {
+    }
+
+    private static class InternedParameterizedType implements ParameterizedType, Interned {
+        private final Class<?> raw;
+        private final Type owner;
+        private final Type[] typeArguments;
+        private final int hashCode;
+
+        InternedParameterizedType(Class<?> raw, Type owner, Type[] typeArguments) {
+            this.raw = raw;
+            this.owner = owner;
+            this.typeArguments = typeArguments;
+            // as sun.reflect.generics.reflectiveObjects.ParameterizedTypeImpl:
+            this.hashCode = Arrays.hashCode(typeArguments) ^ Objects.hashCode(owner) ^ raw.hashCode();
+        }
+
+        @Override
+        public Type getRawType() {
+            return raw;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return owner;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof ParameterizedType)) {
+                return false;
+            }
+            final ParameterizedType other = (ParameterizedType) obj;
+            return raw.equals(other.getRawType()) && Objects.equals(owner, other.getOwnerType())
+                && Arrays.equals(typeArguments, other.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return TypeUtils.toString(this);
+        }
+    }
+
+    private static class InternedGenericArrayType implements GenericArrayType, Interned {
+        private final Type componentType;
+        private final int hashCode;
+
+        InternedGenericArrayType(Type componentType) {
+            this.componentType = componentType;
+            this.hashCode = componentType.hashCode();
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return componentType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj == this || obj instanceof GenericArrayType
+                && componentType.equals(((GenericArrayType) obj).getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return TypeUtils.toString(this);
+        }
+    }
+
+    private static class InternedWildcardType implements WildcardType, Interned {
+        private final Type[] upperBounds;
+        private final Type[] lowerBounds;
+        private final int hashCode;
+
+        InternedWildcardType(Type[] upperBounds, Type[] lowerBounds) {
+            this.upperBounds = implicitUpperBounds(upperBounds);
+            this.lowerBounds = lowerBounds;
+            // as sun.reflect.generics.reflectiveObjects.WildcardTypeImpl:
+            this.hashCode = Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(this.upperBounds);
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof WildcardType)) {
+                return false;
+            }
+            final WildcardType other = (WildcardType) obj;
+            return Arrays.equals(upperBounds, implicitUpperBounds(other.getUpperBounds()))
+                && Arrays.equals(lowerBounds, other.getLowerBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return TypeUtils.toString(this);
+        }
+    }
+
+    private InternedTypes() {
+    }
+
+    /**
+     * Get the canonical instance of {@code type}.
+     *
+     * @param type
+     * @return Type, {@code null} if {@code type} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> T intern(T type) {
+        if (type == null || type instanceof Class<?> || type instanceof TypeVariable<?> || type instanceof Interned) {
+            return type;
+        }
+        final Type existing = CANONICAL.get(type);
+        if (existing != null) {
+            return (T) existing;
+        }
+        return canonicalize(type);
+    }
+
+    /**
+     * Get the canonical instance of non-canonical {@code type} without first looking {@code type} itself up, which
+     * would be futile if it hashes unlike its canonical instance, as {@link TypeUtils} implementations do.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Type> T canonicalize(T type) {
+        final Type canonical;
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType p = (ParameterizedType) type;
+            canonical = new InternedParameterizedType((Class<?>) p.getRawType(), intern(p.getOwnerType()),
+                internAll(p.getActualTypeArguments()));
+        } else if (type instanceof GenericArrayType) {
+            canonical = new InternedGenericArrayType(intern(((GenericArrayType) type).getGenericComponentType()));
+        } else if (type instanceof WildcardType) {
+            final WildcardType w = (WildcardType) type;
+            canonical = new InternedWildcardType(internAll(w.getUpperBounds()), internAll(w.getLowerBounds()));
+        } else {
+            return type;
+        }
+        return (T) CANONICAL.computeIfAbsent(canonical, k -> k);
+    }
+
+    /**
+     * Learn whether {@code type} is a canonical instance, i.e. one that will be returned as-is by
+     * {@link #intern(Type)}.
+     *
+     * @param type
+     * @return boolean
+     */
+    public static boolean isInterned(Type type) {
+        return type instanceof Class<?> || type instanceof TypeVariable<?> || type instanceof Interned;
+    }
+
+    /**
+     * Canonical form of {@link TypeUtils#parameterize(Class, Type...)}.
+     *
+     * @param raw
+     * @param typeArguments
+     * @return ParameterizedType
+     */
+    public static ParameterizedType parameterize(Class<?> raw, Type... typeArguments) {
+        return canonicalize(TypeUtils.parameterize(raw, typeArguments));
+    }
+
+    /**
+     * Canonical form of {@link TypeUtils#parameterize(Class, Map)}.
+     *
+     * @param raw
+     * @param typeArgMappings
+     * @return ParameterizedType
+     */
+    public static ParameterizedType parameterize(Class<?> raw, Map<TypeVariable<?>, Type> typeArgMappings) {
+        return canonicalize(TypeUtils.parameterize(raw, typeArgMappings));
+    }
+
+    /**
+     * Canonical form of {@link TypeUtils#parameterizeWithOwner(Type, Class, Type...)}.
+     *
+     * @param owner
+     * @param raw
+     * @param typeArguments
+     * @return ParameterizedType
+     */
+    public static ParameterizedType parameterizeWithOwner(Type owner, Class<?> raw, Type... typeArguments) {
+        return canonicalize(TypeUtils.parameterizeWithOwner(owner, raw, typeArguments));
+    }
+
+    /**
+     * Canonical form of {@link TypeUtils#genericArrayType(Type)}.
+     *
+     * @param componentType
+     * @return GenericArrayType
+     */
+    public static GenericArrayType genericArrayType(Type componentType) {
+        return canonicalize(TypeUtils.genericArrayType(componentType));
+    }
+
+    /**
+     * Get the upper bounds of a wildcard type, defaulting to {@link Object} where none are declared.
+     */
+    private static Type[] implicitUpperBounds(Type[] upperBounds) {
+        return upperBounds.length == 0 ? new Type[] { Object.class } : upperBounds;
+    }
+
+    private static Type[] internAll(Type[] types) {
+        for (int i = 0; i < types.length; i++) {
+            types[i] = intern(types[i]);
+        }
+        return types;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.util;
+
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Groups container elements by runtime class so that an element-wise support check can be made once per distinct
+ * class (or pair of classes) rather than once per element. {@code null} is grouped by itself. Elements that are
+ * themselves containers (arrays, {@link Iterable}s, {@link Map}s, {@link Iterator}s and {@link Enumeration}s) are never
+ * grouped, as support for operations upon them typically depends on their contents rather than their class.
+ *
+ * @since 0.7
+ */
+public class RepresentativeElements {
+    private final Set<Object> checked = new HashSet<>();
+
+    private static boolean isGroupable(Object element) {
+        if (element == null) {
+            return true;
+        }
+        final Class<?> type = element.getClass();
+        return !(type.isArray() || element instanceof Iterable<?> || element instanceof Map<?, ?>
+            || element instanceof Iterator<?> || element instanceof Enumeration<?>);
+    }
+
+    private static Class<?> classOf(Object element) {
+        return element == null ? null : element.getClass();
+    }
+
+    /**
+     * Learn whether {@code element} represents its group, i.e. is the first element of its class to be encountered.
+     *
+     * @param element
+     * @return {@code true} if support must be checked for {@code element}
+     */
+    public boolean add(Object element) {
+        return !isGroupable(element) || checked.add(classOf(element));
+    }
+
+    /**
+     * Learn whether the pair of {@code first} and {@code second} represents its group, i.e. is the first pair of its
+     * classes to be encountered.
+     *
+     * @param first
+     * @param second
+     * @return {@code true} if support must be checked for the pair
+     */
+    public boolean add(Object first, Object second) {
+        return !(isGroupable(first) && isGroupable(second)) || checked.add(Pair.of(classOf(first), classOf(second)));
+    }
+}
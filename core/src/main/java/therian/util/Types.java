@@ -1,5 +1,8 @@
 package therian.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.GenericDeclaration;
 import java.lang.reflect.Member;
@@ -12,9 +15,9 @@ import java.lang.reflect.WildcardType;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
@@ -27,7 +30,54 @@ import therian.BindTypeVariable;
 
 public class Types {
 
-    private static final Map<Class<?>, Map<TypeVariable<?>, Method>> TYPED_GETTERS = new HashMap<>();
+    private static final MethodType TYPED_GETTER_TYPE = MethodType.methodType(Typed.class, Object.class);
+
+    /**
+     * Readers compiled from the {@link BindTypeVariable} methods declared by each class, by the type variable each
+     * binds.
+     */
+    private static final ClassValue<Map<TypeVariable<?>, Function<Object, Type>>> DECLARED_TYPED_READERS =
+        new ClassValue<Map<TypeVariable<?>, Function<Object, Type>>>() {
+
+            @Override
+            protected Map<TypeVariable<?>, Function<Object, Type>> computeValue(Class<?> type) {
+                final Map<TypeVariable<?>, Method> getters = new HashMap<>();
+                putTypedGetters(getters, type);
+                if (getters.isEmpty()) {
+                    return Collections.emptyMap();
+                }
+                final Map<TypeVariable<?>, Function<Object, Type>> result = new HashMap<>();
+                getters.forEach((k, v) -> result.put(k, compile(v)));
+                return Collections.unmodifiableMap(result);
+            }
+        };
+
+    /**
+     * Readers for each type variable bound, directly or by way of type variable assignments, by a
+     * {@link BindTypeVariable} method in the hierarchy of each runtime class; nearer classes take precedence.
+     */
+    private static final ClassValue<Map<TypeVariable<?>, Function<Object, Type>>> TYPED_READERS =
+        new ClassValue<Map<TypeVariable<?>, Function<Object, Type>>>() {
+
+            @Override
+            protected Map<TypeVariable<?>, Function<Object, Type>> computeValue(Class<?> type) {
+                final Map<TypeVariable<?>, Function<Object, Type>> result = new HashMap<>();
+                VariableWalker varWalker = null;
+                for (Class<?> c : ClassUtils.hierarchy(type, Interfaces.INCLUDE)) {
+                    final Map<TypeVariable<?>, Function<Object, Type>> declared = DECLARED_TYPED_READERS.get(c);
+                    if (declared.isEmpty()) {
+                        continue;
+                    }
+                    if (varWalker == null) {
+                        varWalker = new VariableWalker(type);
+                    }
+                    final Map<TypeVariable<?>, Function<Object, Type>> m = new HashMap<>(declared);
+                    varWalker.expandMappings(m);
+                    m.forEach(result::putIfAbsent);
+                }
+                return result.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(result);
+            }
+        };
 
     // borrowed from Commons Lang MemberUtils
     private static final int ACCESS_TEST = Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE;
@@ -75,12 +125,12 @@ public class Types {
      */
     public static Type refine(Type type, Type parentType) {
         if (type instanceof TypeVariable) {
-            return TypeUtils.normalizeUpperBounds(((TypeVariable<?>) type).getBounds())[0];
+            return InternedTypes.intern(TypeUtils.normalizeUpperBounds(((TypeVariable<?>) type).getBounds())[0]);
         }
         if (type instanceof WildcardType) {
-            return TypeUtils.normalizeUpperBounds(((WildcardType) type).getUpperBounds())[0];
+            return InternedTypes.intern(TypeUtils.normalizeUpperBounds(((WildcardType) type).getUpperBounds())[0]);
         }
-        return type;
+        return InternedTypes.intern(type);
     }
 
     /**
@@ -121,6 +171,21 @@ public class Types {
         return unrollVariables(variablesMap, var, o);
     }
 
+    /**
+     * Get a {@link Function} to read the binding of {@code var} from instances of {@code type} by way of a
+     * {@link BindTypeVariable} method, so that the method is located once rather than upon each read.
+     *
+     * @param type
+     * @param var
+     * @return {@link Function}, or {@code null} if no {@link BindTypeVariable} method of {@code type} binds {@code var}
+     * @since 0.7
+     */
+    public static Function<Object, Type> getTypedReader(Class<?> type, TypeVariable<?> var) {
+        Validate.notNull(type, "type");
+        Validate.notNull(var, "var");
+        return TYPED_READERS.get(type).get(var);
+    }
+
     /**
      * Get the narrowest {@link Type} assignable to {@code subClass} that binds all type parameters of the specified
      * {@link ParameterizedType}.
@@ -151,7 +216,7 @@ public class Types {
                 try {
                     final Map<TypeVariable<?>, Type> typeArgMappings =
                         TypeUtils.determineTypeArguments(t, parameterizedType);
-                    return TypeUtils.parameterize(t, typeArgMappings);
+                    return InternedTypes.parameterize(t, typeArgMappings);
                 } catch (Exception e) {
                     // use basic parameterized source type
                 }
@@ -176,11 +241,9 @@ public class Types {
         }
         if (TypeUtils.containsTypeVariables(type)) {
             if (type instanceof TypeVariable<?>) {
-                for (Class<?> c : init(o.getClass())) {
-                    final Map<TypeVariable<?>, Method> gettersForType = TYPED_GETTERS.get(c);
-                    if (gettersForType != null && gettersForType.containsKey(type)) {
-                        return readTyped(gettersForType.get(type), o);
-                    }
+                final Function<Object, Type> reader = TYPED_READERS.get(o.getClass()).get(type);
+                if (reader != null) {
+                    return reader.apply(o);
                 }
                 return unrollVariables(typeArguments, typeArguments.get(type), o);
             }
@@ -200,12 +263,13 @@ public class Types {
                         args[i] = unrolled;
                     }
                 }
-                return TypeUtils.parameterizeWithOwner(p.getOwnerType(), (Class<?>) p.getRawType(), args);
+                return InternedTypes.parameterizeWithOwner(p.getOwnerType(), (Class<?>) p.getRawType(), args);
             }
             if (type instanceof WildcardType) {
                 final WildcardType wild = (WildcardType) type;
-                return TypeUtils.wildcardType().withUpperBounds(unrollBounds(typeArguments, wild.getUpperBounds(), o))
-                    .withLowerBounds(unrollBounds(typeArguments, wild.getLowerBounds(), o)).build();
+                return InternedTypes.intern(TypeUtils.wildcardType()
+                    .withUpperBounds(unrollBounds(typeArguments, wild.getUpperBounds(), o))
+                    .withLowerBounds(unrollBounds(typeArguments, wild.getLowerBounds(), o)).build());
             }
         }
         return type;
@@ -240,9 +304,33 @@ public class Types {
         return TypeUtils.toString(type);
     }
 
+    /**
+     * Compile a {@link BindTypeVariable} method to a reader, by way of a {@link MethodHandle} if the method is
+     * accessible to us, else by reflection.
+     */
+    private static Function<Object, Type> compile(Method method) {
+        setAccessibleWorkaround(method);
+        final MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method).asType(TYPED_GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return target -> readTyped(method, target);
+        }
+        return target -> {
+            try {
+                final Typed<?> typed = (Typed<?>) handle.invokeExact(target);
+                Validate.validState(typed != null, "%s returned null", method);
+                return typed.getType();
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        };
+    }
+
     private static Type readTyped(Method method, Object target) {
         try {
-            setAccessibleWorkaround(method);
             final Typed<?> typed = (Typed<?>) method.invoke(target);
             Validate.validState(typed != null, "%s returned null", method);
             return typed.getType();
@@ -288,33 +376,6 @@ public class Types {
         return (modifiers & ACCESS_TEST) == 0;
     }
 
-    private static Iterable<Class<?>> init(Class<?> c) {
-        final Iterable<Class<?>> result = ClassUtils.hierarchy(c, ClassUtils.Interfaces.INCLUDE);
-        if (!TYPED_GETTERS.containsKey(c)) {
-            final VariableWalker varWalker = new VariableWalker(c);
-            init(varWalker, result.iterator());
-        }
-        return result;
-    }
-
-    private static void init(VariableWalker varWalker, Iterator<Class<?>> types) {
-        if (types.hasNext()) {
-            final Class<?> c = types.next();
-            synchronized (TYPED_GETTERS) {
-                Map<TypeVariable<?>, Method> m = TYPED_GETTERS.get(c);
-                if (m == null) {
-                    m = new HashMap<>();
-                    putTypedGetters(m, c);
-                    TYPED_GETTERS.put(c, m.isEmpty() ? Collections.<TypeVariable<?>, Method> emptyMap() : m);
-                }
-                if (!m.isEmpty()) {
-                    varWalker.expandMappings(m);
-                }
-                init(varWalker, types);
-            }
-        }
-    }
-
     private static class VariableWalker {
         final Map<TypeVariable<?>, Type> assignments;
         final Map<TypeVariable<?>, Type> inverseAssignments;
@@ -324,16 +385,16 @@ public class Types {
             inverseAssignments = invert(assignments);
         }
 
-        void expandMappings(Map<TypeVariable<?>, Method> m) {
-            final Map<TypeVariable<?>, Method> additionalMappings = new HashMap<>();
-            for (Map.Entry<TypeVariable<?>, Method> e : m.entrySet()) {
+        <V> void expandMappings(Map<TypeVariable<?>, V> m) {
+            final Map<TypeVariable<?>, V> additionalMappings = new HashMap<>();
+            for (Map.Entry<TypeVariable<?>, V> e : m.entrySet()) {
                 traverseAssignments(additionalMappings, e, assignments);
                 traverseAssignments(additionalMappings, e, inverseAssignments);
             }
             m.putAll(additionalMappings);
         }
 
-        void traverseAssignments(Map<TypeVariable<?>, Method> target, Map.Entry<TypeVariable<?>, Method> e,
+        <V> void traverseAssignments(Map<TypeVariable<?>, V> target, Map.Entry<TypeVariable<?>, V> e,
             Map<TypeVariable<?>, Type> source) {
 
             Type t = source.get(e.getKey());
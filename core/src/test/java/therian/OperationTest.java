@@ -0,0 +1,66 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import therian.operation.Convert;
+import therian.util.Positions;
+
+public class OperationTest {
+
+    public static class Unbound<T> extends Operation<List<T>> {
+    }
+
+    public static abstract class Bound<T> extends Operation<String> {
+    }
+
+    public static class BoundSubclass extends Bound<Object> {
+    }
+
+    @Test
+    public void testUnboundResultRejectedRepeatedly() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                new Unbound<String>();
+                fail();
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testBoundResult() {
+        assertFalse(new BoundSubclass().isSuccessful());
+    }
+
+    @Test
+    public void testProfileSharedByGenericType() {
+        final Operation<?> a = Convert.to(String.class, Positions.readOnly(Integer.valueOf(1)));
+        final Operation<?> b = Convert.to(String.class, Positions.readOnly(Integer.valueOf(2)));
+        final Operation<?> c = Convert.to(String.class, Positions.readOnly("3"));
+        assertEquals(a.getProfile(), b.getProfile());
+        assertNotEquals(a.getProfile(), c.getProfile());
+    }
+}
@@ -1,16 +1,155 @@
 package therian;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.el.ELContext;
+
+import org.apache.commons.lang3.reflect.TypeLiteral;
 import org.junit.Test;
 
+import therian.operation.Add;
 import therian.operation.Convert;
+import therian.operation.GetElementType;
+import therian.operator.OperatorBase;
 import therian.operator.convert.ELCoercionConverter;
+import therian.position.Position;
+import therian.util.BoundedCache;
 import therian.util.Positions;
+import uelbox.SimpleELContext;
+import uelbox.UEL;
 
 public class TherianContextTest {
 
+    @Reusable(byProfile = true)
+    public static class RejectingOperator extends OperatorBase<GetElementType<?>> {
+        final AtomicInteger supportChecks = new AtomicInteger();
+
+        @Override
+        public boolean perform(TherianContext context, GetElementType<?> operation) {
+            return false;
+        }
+
+        @Override
+        public boolean supports(TherianContext context, GetElementType<?> operation) {
+            supportChecks.incrementAndGet();
+            return false;
+        }
+    }
+
+    public static class RecursingOperator extends OperatorBase<GetElementType<?>> {
+        final AtomicInteger supportChecks = new AtomicInteger();
+
+        @Override
+        public boolean perform(TherianContext context, GetElementType<?> operation) {
+            return false;
+        }
+
+        @Override
+        public boolean supports(TherianContext context, GetElementType<?> operation) {
+            supportChecks.incrementAndGet();
+            return context.supports(GetElementType.of(Positions.readOnly(String.class, "foo")));
+        }
+    }
+
+    public static class CountingConverter extends OperatorBase<Convert<Integer, String>> {
+        final AtomicInteger performed = new AtomicInteger();
+
+        @Override
+        public boolean perform(TherianContext context, Convert<Integer, String> convert) {
+            performed.incrementAndGet();
+            convert.getTargetPosition().setValue(convert.getSourcePosition().getValue().toString());
+            return true;
+        }
+
+        @Override
+        public boolean supports(TherianContext context, Convert<Integer, String> convert) {
+            return true;
+        }
+    }
+
+    /**
+     * Adds to a collection, then checks whether the same addition, as requested against the now-changed collection, is
+     * supported.
+     */
+    public static class MutatingAdder extends OperatorBase<Add<?, ? extends Collection<?>>> {
+        final List<Boolean> nestedSupports = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean perform(TherianContext context, Add<?, ? extends Collection<?>> add) {
+            ((Collection<Object>) add.getTargetPosition().getValue()).add(add.getSourcePosition().getValue());
+            nestedSupports.add(Boolean.valueOf(
+                context.supports(Add.to(add.getTargetPosition(), add.getSourcePosition()))));
+            return true;
+        }
+
+        @Override
+        public boolean supports(TherianContext context, Add<?, ? extends Collection<?>> add) {
+            return true;
+        }
+    }
+
+    public static class Marker implements Hint {
+        final String value;
+
+        Marker(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Class<? extends Hint> getType() {
+            return Marker.class;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Marker && ((Marker) obj).value.equals(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    /**
+     * Converts integer n to a comma-delimited list of the {@link Marker} values in effect at each of n + 1 nested
+     * conversions, applying a fresh {@link Marker} to the innermost.
+     */
+    public static class MarkerReporter extends OperatorBase<Convert<Integer, String>> {
+
+        @Override
+        public boolean perform(TherianContext context, Convert<Integer, String> convert) {
+            final int n = convert.getSourcePosition().getValue().intValue();
+            final StringBuilder buf = new StringBuilder(((Marker) context.getContext(Marker.class)).value);
+            if (n > 0) {
+                final Convert<Integer, String> nested = Convert.to(String.class, Positions.readOnly(n - 1));
+                buf.append(',').append(n == 1 ? context.eval(nested, new Marker("inner")) : context.eval(nested));
+            }
+            convert.getTargetPosition().setValue(buf.toString());
+            return true;
+        }
+
+        @Override
+        public boolean supports(TherianContext context, Convert<Integer, String> convert) {
+            return context.getContext(Marker.class) != null;
+        }
+    }
+
     @Test
     public void testSupports() {
         assertTrue(Therian.usingModules(TherianModule.create().withOperators(new ELCoercionConverter())).context()
@@ -21,4 +160,189 @@ public class TherianContextTest {
             .supports(Convert.to(Therian.class, Positions.readOnly(Integer.valueOf(666)))));
     }
 
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        final TherianContext context = Therian.standard().context();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final Integer value = Integer.valueOf(i);
+                tasks.add(() -> context.eval(Convert.to(String.class, Positions.readOnly(value))));
+            }
+            final List<Future<String>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(String.valueOf(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertFalse(context.getRequestStack().findAny().isPresent());
+    }
+
+    @Test
+    public void testUnsupportedRememberedByProfile() {
+        final RejectingOperator operator = new RejectingOperator();
+        final Therian therian = Therian.usingModules(TherianModule.create().withOperators(operator));
+        assertFalse(therian.context().supports(GetElementType.of(Positions.readOnly(String.class, "foo"))));
+        assertFalse(therian.context().supports(GetElementType.of(Positions.readOnly(String.class, "bar"))));
+        assertEquals(1, operator.supportChecks.get());
+
+        // evaluation consults the operators regardless:
+        try {
+            therian.context().eval(GetElementType.of(Positions.readOnly(String.class, "baz")));
+            fail();
+        } catch (OperationException e) {
+            assertEquals(2, operator.supportChecks.get());
+        }
+    }
+
+    @Test
+    public void testAssignabilitySharedByTherian() {
+        final Therian therian = Therian.standard();
+        final TherianContext context = therian.context();
+        assertSame(therian.getAssignability(), context.getAssignability());
+        assertSame(context.getAssignability(), therian.context().getAssignability());
+        // unsupported, hence dispatched to (and matched against) candidate operators each time:
+        context.supports(Convert.to(Therian.class, Positions.readOnly(Integer.valueOf(666))));
+        final BoundedCache.Stats stats = context.getAssignability().getStats();
+        therian.context().supports(Convert.to(Therian.class, Positions.readOnly(Integer.valueOf(999))));
+        assertEquals(stats.getMisses(), context.getAssignability().getStats().getMisses());
+        assertTrue(context.getAssignability().getStats().getHits() > stats.getHits());
+    }
+
+
+    @Test
+    public void testEvalAll() {
+        final TherianContext context = Therian.standard().context();
+        final List<String> results = new ArrayList<>();
+        assertTrue(context.evalAll(results::add,
+            Arrays.asList(Convert.to(String.class, Positions.readOnly(Integer.valueOf(1))),
+                Convert.to(String.class, Positions.readOnly(Integer.valueOf(2))))));
+        assertEquals(Arrays.asList("1", "2"), results);
+    }
+
+    @Test
+    public void testEvalAllStopsAtUnsupported() {
+        final TherianContext context = Therian.standard().context();
+        final List<Object> results = new ArrayList<>();
+        assertFalse(context.evalAll(results::add,
+            Arrays.asList(Convert.to(String.class, Positions.readOnly(Integer.valueOf(1))),
+                Convert.to(Therian.class, Positions.readOnly(Integer.valueOf(2))),
+                Convert.to(String.class, Positions.readOnly(Integer.valueOf(3))))));
+        assertEquals(Arrays.asList("1"), results);
+    }
+
+    @Test
+    public void testConvertAll() {
+        final TherianContext context = Therian.standard().context();
+        final List<String> results = context.convertAll(Arrays.asList(1, 2L, 3.0), new TypeLiteral<String>() {},
+            new ArrayList<>());
+        assertEquals(Arrays.asList("1", "2", "3.0"), results);
+    }
+
+    @Test(expected = OperationException.class)
+    public void testConvertAllUnsupported() {
+        Therian.standard().context().convertAll(Arrays.asList(1, 2), new TypeLiteral<Therian>() {}, new ArrayList<>());
+    }
+
+    @Test
+    public void testNestedHints() {
+        final TherianContext context =
+            Therian.usingModules(TherianModule.create().withOperators(new MarkerReporter())).context();
+        assertEquals("outer,outer,inner",
+            context.eval(Convert.to(String.class, Positions.readOnly(2)), new Marker("outer")));
+        assertEquals(0, context.getHints().length);
+        assertFalse(context.supports(Convert.to(String.class, Positions.readOnly(2))));
+    }
+
+    @Test
+    public void testRecursionDetected() {
+        final RecursingOperator operator = new RecursingOperator();
+        final TherianContext context = Therian.usingModules(TherianModule.create().withOperators(operator)).context();
+        assertFalse(context.supports(GetElementType.of(Positions.readOnly(String.class, "foo"))));
+        assertEquals(1, operator.supportChecks.get());
+        assertEquals(0L, context.getRequestStack().count());
+    }
+
+    @Test
+    public void testRecursionDetectedAfterMutation() {
+        final MutatingAdder operator = new MutatingAdder();
+        final TherianContext context = Therian.usingModules(TherianModule.create().withOperators(operator)).context();
+        final List<String> list = new ArrayList<>();
+        final Position.Readable<List<String>> target = Positions.readOnly(new TypeLiteral<List<String>>() {}, list);
+
+        assertTrue(context.evalSuccess(Add.to(target, Positions.readOnly("foo"))));
+        assertEquals(Arrays.asList("foo"), list);
+        assertEquals(Arrays.asList(Boolean.FALSE), operator.nestedSupports);
+        assertEquals(0L, context.getRequestStack().count());
+
+        assertTrue(context.evalSuccess(Add.to(target, Positions.readOnly("foo"))));
+        assertEquals(Arrays.asList("foo", "foo"), list);
+        assertEquals(Arrays.asList(Boolean.FALSE, Boolean.FALSE), operator.nestedSupports);
+    }
+
+    @Test
+    public void testSession() {
+        final CountingConverter operator = new CountingConverter();
+        final TherianContext context = Therian.usingModules(TherianModule.create().withOperators(operator)).context();
+
+        final String first;
+        try (TherianContext.Session session = context.openSession(8)) {
+            first = context.eval(Convert.to(String.class, Positions.readOnly(1)));
+            assertEquals(first, context.eval(Convert.to(String.class, Positions.readOnly(1))));
+            assertEquals(1, operator.performed.get());
+            assertTrue(session.size() > 0);
+        }
+        assertEquals(first, context.eval(Convert.to(String.class, Positions.readOnly(1))));
+        assertEquals(2, operator.performed.get());
+    }
+
+    @Test
+    public void testSessionBounded() {
+        final CountingConverter operator = new CountingConverter();
+        final TherianContext context = Therian.usingModules(TherianModule.create().withOperators(operator)).context();
+
+        try (TherianContext.Session session = context.openSession(2)) {
+            for (int i = 0; i < 10; i++) {
+                context.eval(Convert.to(String.class, Positions.readOnly(i)));
+            }
+            assertTrue(session.size() <= 2);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNestedSession() {
+        final TherianContext context = Therian.standard().context();
+        try (TherianContext.Session session = context.openSession()) {
+            context.openSession();
+        }
+    }
+
+    @Test
+    public void testValueExpressionsShared() {
+        final Therian therian = Therian.usingModules(Therian.standardModule());
+        assertSame(therian.context().getValueExpression("#{foo.bar}"),
+            therian.context().getValueExpression("#{foo.bar}"));
+    }
+
+    @Test
+    public void testVariableMappingsNotShared() {
+        final Therian therian = Therian.usingModules(Therian.standardModule());
+        final TherianContext foo = therian.contextFor(withVariable("x", "foo"));
+        final TherianContext bar = therian.contextFor(withVariable("x", "bar"));
+        final TherianContext unmapped = therian.context();
+        unmapped.getValueExpression("#{x}");
+
+        assertEquals("foo", foo.getValueExpression("#{x}").getValue(foo));
+        assertEquals("bar", bar.getValueExpression("#{x}").getValue(bar));
+        assertEquals("foo", foo.getValueExpression("#{x}").getValue(foo));
+    }
+
+    private static ELContext withVariable(String name, Object value) {
+        final ELContext result = new SimpleELContext();
+        result.getVariableMapper().setVariable(name,
+            UEL.getExpressionFactory(result).createValueExpression(value, Object.class));
+        return result;
+    }
 }
@@ -17,10 +17,18 @@ package therian;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.function.Function;
+
+import javax.el.ELContext;
+import javax.el.ELResolver;
+
 import org.junit.Test;
 import org.slf4j.Logger;
 
 import therian.behavior.LoggingMode;
+import therian.testfixture.Book;
+import uelbox.ELResolverWrapper;
+import uelbox.UEL;
 import uk.org.lidalia.slf4jtest.LoggingEvent;
 import uk.org.lidalia.slf4jtest.TestLogger;
 import uk.org.lidalia.slf4jtest.TestLoggerFactory;
@@ -52,4 +60,40 @@ public class TherianTest {
         logger.trace("foo");
         assertThat(testLogger.getLoggingEvents()).containsExactly(LoggingEvent.debug("foo"));
     }
+
+    @Test
+    public void testModuleELResolverPrecedesBeanResolution() {
+        final ELResolver titleResolver = new ELResolverWrapper(UEL.nopELResolver()) {
+
+            @Override
+            public Object getValue(ELContext context, Object base, Object property) {
+                if (base instanceof Book && "title".equals(property)) {
+                    context.setPropertyResolved(true);
+                    return "Matilda";
+                }
+                return super.getValue(context, base, property);
+            }
+        };
+        final TherianContext context =
+            Therian.usingModules(Therian.standardModule(), TherianModule.create().withELResolvers(titleResolver))
+                .context();
+        final Book book = new Book();
+        book.setTitle("The BFG");
+        assertThat(context.getELResolver().getValue(context, book, "title")).isEqualTo("Matilda");
+
+        final TherianContext standardContext = Therian.standard().context();
+        assertThat(standardContext.getELResolver().getValue(standardContext, book, "title")).isEqualTo("The BFG");
+    }
+
+    @Test
+    public void testConverterFor() {
+        final Function<Integer, String> converter = Therian.standard().converterFor(Integer.class, String.class);
+        assertThat(converter.apply(Integer.valueOf(1))).isEqualTo("1");
+        assertThat(converter.apply(Integer.valueOf(2))).isEqualTo("2");
+    }
+
+    @Test(expected = OperationException.class)
+    public void testConverterForUnsupported() {
+        Therian.standard().converterFor(Integer.class, Therian.class).apply(Integer.valueOf(1));
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import javax.el.ELContext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import therian.testfixture.Address;
+import therian.testfixture.Country;
+import uelbox.SimpleELContext;
+
+public class FastBeanELResolverTest {
+    private FastBeanELResolver resolver;
+    private ELContext context;
+    private Address address;
+
+    @Before
+    public void setup() {
+        resolver = new FastBeanELResolver();
+        context = new SimpleELContext();
+        address = new Address();
+        address.setCity("fooville");
+    }
+
+    @Test
+    public void testGetValue() {
+        assertEquals("fooville", resolver.getValue(context, address, "city"));
+        assertTrue(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testSetValue() {
+        final Country country = new Country();
+        resolver.setValue(context, address, "country", country);
+        assertTrue(context.isPropertyResolved());
+        assertSame(country, address.getCountry());
+    }
+
+    @Test
+    public void testGetType() {
+        assertEquals(Country.class, resolver.getType(context, address, "country"));
+        assertTrue(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testIsReadOnly() {
+        assertFalse(resolver.isReadOnly(context, address, "city"));
+        assertTrue(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testReadOnlyPropertyUnresolved() {
+        assertFalse(resolver.isReadOnly(context, address, "class"));
+        assertFalse(context.isPropertyResolved());
+        resolver.setValue(context, address, "class", Object.class);
+        assertFalse(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testUnknownPropertyUnresolved() {
+        assertNull(resolver.getValue(context, address, "foo"));
+        assertFalse(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testNonBeanUnresolved() {
+        assertNull(resolver.getValue(context, Collections.singletonMap("city", "barville"), "city"));
+        assertFalse(context.isPropertyResolved());
+        assertNull(resolver.getValue(context, Collections.singletonList("foo"), "empty"));
+        assertFalse(context.isPropertyResolved());
+    }
+}
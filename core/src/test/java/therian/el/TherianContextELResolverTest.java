@@ -0,0 +1,156 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.FeatureDescriptor;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.el.CompositeELResolver;
+import javax.el.ELContext;
+import javax.el.ELResolver;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import therian.Therian;
+import therian.TherianContext;
+import therian.TherianModule;
+import therian.testfixture.Address;
+import uelbox.ELContextWrapper;
+import uelbox.ELResolverWrapper;
+import uelbox.SimpleELContext;
+import uelbox.UEL;
+
+public class TherianContextELResolverTest {
+    private TherianContext context;
+
+    @Before
+    public void setup() {
+        context = Therian.standard().context();
+    }
+
+    @Test
+    public void testBeanFeatures() {
+        final Address address = new Address();
+        final Map<String, TherianContextELResolver.Feature> features =
+            TherianContextELResolver.getFeatures(context, address);
+        assertTrue(features.containsKey("city"));
+        assertEquals(String.class, features.get("city").getType());
+        assertFalse(features.get("city").isReadOnly(context, address));
+        assertTrue(features.get("class").isReadOnly(context, address));
+    }
+
+    @Test
+    public void testBeanFeaturesCachedByClass() {
+        assertSame(TherianContextELResolver.getFeatures(context, new Address()),
+            TherianContextELResolver.getFeatures(context, new Address()));
+    }
+
+    @Test
+    public void testBeanFeaturesSharedByTherian() {
+        assertSame(TherianContextELResolver.getFeatures(context, new Address()),
+            TherianContextELResolver.getFeatures(Therian.standard().context(), new Address()));
+        assertNotSame(TherianContextELResolver.getFeatures(context, new Address()),
+            TherianContextELResolver.getFeatures(Therian.usingModules(Therian.standardModule()).context(),
+                new Address()));
+        assertNotSame(TherianContextELResolver.getFeatures(context, new Address()),
+            TherianContextELResolver.getFeatures(Therian.standard().contextFor(new SimpleELContext()),
+                new Address()));
+    }
+
+    @Test
+    public void testBeanFeaturesPerWrappedContext() {
+        final ELResolver nicknameResolver = new ELResolverWrapper(UEL.nopELResolver()) {
+
+            @Override
+            public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+                if (base instanceof Address) {
+                    final FeatureDescriptor descriptor = new FeatureDescriptor();
+                    descriptor.setName("nickname");
+                    descriptor.setValue(ELResolver.TYPE, String.class);
+                    return Collections.singleton(descriptor).iterator();
+                }
+                return super.getFeatureDescriptors(context, base);
+            }
+        };
+        final TherianContext wrapping = Therian.standard().contextFor(new ELContextWrapper(new SimpleELContext()) {
+
+            @Override
+            protected ELResolver wrap(ELResolver elResolver) {
+                final CompositeELResolver result = new CompositeELResolver();
+                result.add(nicknameResolver);
+                result.add(elResolver);
+                return result;
+            }
+        });
+        assertFalse(TherianContextELResolver.getFeatures(context, new Address()).containsKey("nickname"));
+        assertTrue(TherianContextELResolver.getFeatures(wrapping, new Address()).containsKey("nickname"));
+        assertFalse(TherianContextELResolver.getFeatures(context, new Address()).containsKey("nickname"));
+    }
+
+    @Test
+    public void testBeanFeatureDescriptorsCopied() {
+        final Iterator<FeatureDescriptor> descriptors =
+            context.getELResolver().getFeatureDescriptors(context, new Address());
+        while (descriptors.hasNext()) {
+            final FeatureDescriptor descriptor = descriptors.next();
+            descriptor.setName("x" + descriptor.getName());
+            descriptor.setValue(ELResolver.TYPE, Void.class);
+        }
+        final Iterator<FeatureDescriptor> again = context.getELResolver().getFeatureDescriptors(context, new Address());
+        while (again.hasNext()) {
+            final FeatureDescriptor descriptor = again.next();
+            assertFalse(descriptor.getName().startsWith("x"));
+            assertNotSame(Void.class, descriptor.getValue(ELResolver.TYPE));
+        }
+        assertEquals(String.class, TherianContextELResolver.getFeatures(context, new Address()).get("city").getType());
+    }
+
+    @Test
+    public void testReadOnlyPerContext() {
+        final ELResolver readOnlyCity = new ELResolverWrapper(UEL.nopELResolver()) {
+
+            @Override
+            public boolean isReadOnly(ELContext context, Object base, Object property) {
+                if (base instanceof Address && "city".equals(property)) {
+                    context.setPropertyResolved(true);
+                    return true;
+                }
+                return super.isReadOnly(context, base, property);
+            }
+        };
+        final TherianContext readOnlyContext =
+            Therian.usingModules(Therian.standardModule(), TherianModule.create().withELResolvers(readOnlyCity))
+                .context();
+        final Address address = new Address();
+        final TherianContextELResolver.Feature city =
+            TherianContextELResolver.getFeatures(context, address).get("city");
+
+        assertFalse(city.isReadOnly(context, address));
+        assertTrue(city.isReadOnly(readOnlyContext, address));
+        assertFalse(city.isReadOnly(Therian.standard().context(), address));
+        assertTrue(TherianContextELResolver.getFeatures(readOnlyContext, address).get("city")
+            .isReadOnly(readOnlyContext, address));
+    }
+}
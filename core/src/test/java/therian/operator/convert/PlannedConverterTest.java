@@ -0,0 +1,92 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.operator.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import therian.TherianContext;
+import therian.TherianModule;
+import therian.operation.Convert;
+import therian.operator.OperatorTest;
+import therian.testfixture.MetasyntacticVariable;
+import therian.util.Positions;
+
+public class PlannedConverterTest extends OperatorTest {
+
+    public static class CharSequenceToInteger extends Converter<CharSequence, Integer> {
+        final AtomicInteger performed = new AtomicInteger();
+
+        @Override
+        public boolean perform(TherianContext context, Convert<? extends CharSequence, ? super Integer> convert) {
+            performed.incrementAndGet();
+            convert.getTargetPosition().setValue(Integer.valueOf(convert.getSourcePosition().getValue().toString()));
+            return true;
+        }
+    }
+
+    public static class IntegerToMetasyntacticVariable extends Converter<Integer, MetasyntacticVariable> {
+
+        @Override
+        public boolean perform(TherianContext context,
+            Convert<? extends Integer, ? super MetasyntacticVariable> convert) {
+            final int ordinal = convert.getSourcePosition().getValue().intValue();
+            convert.getTargetPosition().setValue(MetasyntacticVariable.values()[ordinal]);
+            return true;
+        }
+    }
+
+    private final CharSequenceToInteger charSequenceToInteger = new CharSequenceToInteger();
+
+    @Override
+    protected TherianModule module() {
+        return TherianModule.create()
+            .withOperators(PlannedConverter.of(new IntegerToMetasyntacticVariable(), charSequenceToInteger));
+    }
+
+    @Test
+    public void testSingleStep() {
+        assertEquals(Integer.valueOf(2), therianContext.eval(Convert.to(Integer.class, Positions.readOnly("2"))));
+        assertEquals(1, charSequenceToInteger.performed.get());
+    }
+
+    @Test
+    public void testMultipleSteps() {
+        assertEquals(MetasyntacticVariable.BAR,
+            therianContext.eval(Convert.to(MetasyntacticVariable.class, Positions.readOnly("1"))));
+        assertEquals(MetasyntacticVariable.BAZ,
+            therianContext.eval(Convert.to(MetasyntacticVariable.class, Positions.readOnly(new StringBuilder("2")))));
+        assertEquals(2, charSequenceToInteger.performed.get());
+    }
+
+    @Test
+    public void testDeclaredSourceTypeIgnored() {
+        assertTrue(therianContext.supports(Convert.to(MetasyntacticVariable.class,
+            Positions.<Object> readOnly(Object.class, "0"))));
+    }
+
+    @Test
+    public void testUnroutable() {
+        assertFalse(therianContext.supports(Convert.to(String.class, Positions.readOnly(Integer.valueOf(0)))));
+        assertFalse(
+            therianContext.supports(Convert.to(CharSequence.class, Positions.readOnly(MetasyntacticVariable.FOO))));
+    }
+}
@@ -19,14 +19,21 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.util.Locale;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import therian.OperationException;
+import therian.Therian;
+import therian.TherianContext;
 import therian.TherianModule;
+import therian.operation.Convert;
 import therian.operation.Copy;
 import therian.operator.OperatorTest;
+import therian.operator.convert.Converter;
 import therian.operator.copy.PropertyCopier.NullBehavior;
+import therian.operator.copy.PropertyCopier.Planning;
 import therian.testfixture.Address;
 import therian.testfixture.Country;
 import therian.util.Positions;
@@ -35,6 +42,20 @@ import therian.util.Positions;
  * Also tests some {@link PropertyCopier} functionality, e.g. matching and NullBehavior.
  */
 public class BeanCopierTest extends OperatorTest {
+    public static class Shouting extends Converter<String, String> {
+
+        @Override
+        public boolean perform(TherianContext context, Convert<? extends String, ? super String> convert) {
+            convert.getTargetPosition().setValue(convert.getSourcePosition().getValue().toUpperCase(Locale.US));
+            return true;
+        }
+
+        @Override
+        protected boolean isRejectNoop() {
+            return false;
+        }
+    }
+
     private Address fullAddress;
     private Address emptyAddress;
 
@@ -67,6 +88,44 @@ public class BeanCopierTest extends OperatorTest {
         assertEquals(fullAddress, target);
     }
 
+    @Test
+    public void testRepeated() {
+        for (int i = 0; i < 3; i++) {
+            final Address target = new Address();
+            therianContext.eval(Copy.to(Positions.readOnly(target), Positions.readOnly(fullAddress)));
+            assertEquals(fullAddress, target);
+        }
+    }
+
+    @Test
+    public void testDynamic() {
+        final Address target = new Address();
+        therianContext.eval(Copy.to(Positions.readOnly(target), Positions.readOnly(fullAddress)), Planning.DYNAMIC);
+        assertEquals(fullAddress, target);
+    }
+
+    @Test
+    public void testCompiled() {
+        for (int i = 0; i < 3; i++) {
+            final Address target = new Address();
+            therianContext.eval(Copy.to(Positions.readOnly(target), Positions.readOnly(fullAddress)),
+                Planning.COMPILED);
+            assertEquals(fullAddress, target);
+        }
+    }
+
+    @Test
+    public void testConverterHonoredByDefault() {
+        final TherianContext context = Therian.usingModules(
+            TherianModule.expandingDependencies(TherianModule.create().withOperators(new BeanCopier(), new Shouting())))
+            .context();
+        final Address target = new Address();
+        context.eval(Copy.to(Positions.readOnly(target), Positions.readOnly(fullAddress)));
+        assertEquals("FOOVILLE", target.getCity());
+        assertEquals("FOO.S.A.", target.getCountry().getName());
+        assertEquals("UNIT 666", target.getAddressline2());
+    }
+
     /**
      * Default behavior of a {@link PropertyCopier} should noop a null source value.
      */
@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.TypeLiteral;
@@ -282,4 +283,61 @@ public class ContainerCopierTest extends OperatorTest {
             therianContext.supports(Copy.to(Positions.readOnly(MetasyntacticVariable[].class, (MetasyntacticVariable[]) null),
                 Positions.readOnly(MetasyntacticVariable.values()))));
     }
+
+    @Test
+    public void testToEmptyArray() {
+        final Position.ReadWrite<Book[]> target = Positions.readWrite(Book[].class, new Book[0]);
+        therianContext.eval(Copy.to(target, Positions.readOnly(LocalTypes.LIST_OF_BOOK, Arrays.asList(books))));
+        assertArrayEquals(books, target.getValue());
+    }
+
+    @Test
+    public void testToEmptyList() {
+        final List<Book> targetValue = new ArrayList<>();
+        therianContext.eval(Copy.to(Positions.readOnly(LocalTypes.LIST_OF_BOOK, targetValue),
+            Positions.readOnly(books)));
+        assertEquals(Arrays.asList(books), targetValue);
+    }
+
+    @Test
+    public void testToUnmodifiableEmptyList() {
+        final List<Book> targetValue = Collections.unmodifiableList(new ArrayList<Book>());
+        assertFalse(therianContext.supports(Copy.to(Positions.readOnly(LocalTypes.LIST_OF_BOOK, targetValue),
+            Positions.readOnly(LocalTypes.LIST_OF_BOOK, Arrays.asList(books)))));
+
+        final Position.ReadWrite<List<Book>> target = Positions.readWrite(LocalTypes.LIST_OF_BOOK, targetValue);
+        therianContext.eval(Copy.to(target, Positions.readOnly(LocalTypes.LIST_OF_BOOK, Arrays.asList(books))));
+        assertEquals(Arrays.asList(books), target.getValue());
+    }
+
+    @Test
+    public void testParallelTypeConversionToList() {
+        final List<Employee> targetList = new ArrayList<>();
+        therianContext.eval(Copy.to(Positions.readOnly(LocalTypes.LIST_OF_EMPLOYEE, targetList),
+            Positions.readOnly(jerks)), Parallelism.of(1));
+        assertEquals(jerks.length, targetList.size());
+        for (int i = 0; i < jerks.length; i++) {
+            assertEquals(jerks[i].getFirstName(), targetList.get(i).getFirstName());
+            assertEquals(jerks[i].getLastName(), targetList.get(i).getLastName());
+        }
+    }
+
+    @Test
+    public void testParallelTypeConversionWithinForkJoinPool() throws Exception {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final List<Employee> targetList = pool.submit(() -> {
+                final List<Employee> result = new ArrayList<>();
+                therianContext.eval(Copy.to(Positions.readOnly(LocalTypes.LIST_OF_EMPLOYEE, result),
+                    Positions.readOnly(jerks)), Parallelism.of(1, pool));
+                return result;
+            }).get();
+            assertEquals(jerks.length, targetList.size());
+            for (int i = 0; i < jerks.length; i++) {
+                assertEquals(jerks[i].getFirstName(), targetList.get(i).getFirstName());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
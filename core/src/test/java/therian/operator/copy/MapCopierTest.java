@@ -133,4 +133,19 @@ public class MapCopierTest extends OperatorTest {
             Positions.readOnly(LocalTypes.MAP_OF_STRING_TO_OBJECT, sourceMap)));
     }
 
+    @Test
+    public void testParallelKeyAndValueConversion() {
+        final Map<MetasyntacticVariable, String> targetMap = new LinkedHashMap<>();
+        assertTrue(therianContext.evalSuccess(Copy.to(
+            Positions.readOnly(LocalTypes.MAP_OF_METASYNTACTIC_VARIABLE_TO_STRING, targetMap),
+            Positions.readOnly(LocalTypes.MAP_OF_STRING_TO_METASYNTACTIC_VARIABLE, nameToMetasyntacticVariable)),
+            Parallelism.of(1)));
+
+        final Iterator<Map.Entry<MetasyntacticVariable, String>> entries = targetMap.entrySet().iterator();
+        for (MetasyntacticVariable mv : MetasyntacticVariable.values()) {
+            final Map.Entry<MetasyntacticVariable, String> e = entries.next();
+            assertSame(mv, e.getKey());
+            assertEquals(mv.name(), e.getValue());
+        }
+    }
 }
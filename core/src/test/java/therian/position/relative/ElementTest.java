@@ -19,8 +19,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.reflect.TypeLiteral;
@@ -30,6 +34,9 @@ import therian.position.Position;
 import therian.util.Positions;
 
 public class ElementTest {
+    public static class StringList extends ArrayList<String> {
+        private static final long serialVersionUID = 1L;
+    }
 
     @Test
     public void testGetIterableElementType() {
@@ -100,4 +107,33 @@ public class ElementTest {
         assertEquals(String.format("Relative Position: Array Element [0] of %s", arrayRef),
             Element.atArrayIndex(0).of(arrayRef).toString());
     }
+
+    @Test
+    public void testGetIterableElementTypeFromRuntimeClass() {
+        assertEquals(String.class,
+            Element.atIndex(0).of(Positions.<Iterable<?>> readOnly(Iterable.class, new StringList())).getType());
+    }
+
+    @Test
+    public void testGetNonListIterableElementValues() {
+        final Set<String> s = new LinkedHashSet<>(Arrays.asList("foo", "bar", "baz"));
+        final Position.Readable<Set<String>> position = Positions.readOnly(s);
+        assertEquals("foo", Element.atIndex(0).of(position).getValue());
+        assertEquals("bar", Element.atIndex(1).of(position).getValue());
+        assertEquals("baz", Element.atIndex(2).of(position).getValue());
+        assertEquals("bar", Element.atIndex(1).of(position).getValue());
+        s.remove("foo");
+        assertEquals("baz", Element.atIndex(1).of(position).getValue());
+    }
+
+    @Test
+    public void testGetSnapshotIterableElementValuesAfterMutation() {
+        final Set<String> s = new CopyOnWriteArraySet<>(Arrays.asList("foo", "bar", "baz"));
+        final Position.Readable<Set<String>> position = Positions.readOnly(s);
+        assertEquals("foo", Element.atIndex(0).of(position).getValue());
+        assertEquals("bar", Element.atIndex(1).of(position).getValue());
+        s.remove("baz");
+        s.add("qux");
+        assertEquals("qux", Element.atIndex(2).of(position).getValue());
+    }
 }
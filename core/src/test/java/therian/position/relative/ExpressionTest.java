@@ -151,4 +151,35 @@ public class ExpressionTest {
     public void testOptional() {
         assertNull(Expression.optional("author.firstName").of(Positions.readOnly(Book.class, (Book) null)).getValue());
     }
+
+    @Test
+    public void testSharedExpressionAcrossBases() {
+        final Book book2 = new Book();
+        book2.setTitle("James and the Giant Peach");
+        final Expression.PositionFactory<String> title = Expression.<String> at("title");
+        assertEquals(book1.getTitle(), title.of(Positions.readOnly(book1)).getValue());
+        assertEquals(book2.getTitle(), title.of(Positions.readOnly(book2)).getValue());
+
+        final Position.ReadWrite<Book> book = Positions.readWrite(Book.class, book2);
+        title.of(book).setValue("The Twits");
+        assertEquals("The Twits", book2.getTitle());
+        assertEquals(book1.getTitle(), title.of(Positions.readOnly(book1)).getValue());
+    }
+
+    @Test
+    public void testPositionFollowsChangingBase() {
+        final Book book2 = new Book();
+        book2.setTitle("James and the Giant Peach");
+        final Position.ReadWrite<Book> book = Positions.readWrite(Book.class, book1);
+        final RelativePosition.ReadWrite<Book, String> title = Expression.<String> at("title").of(book);
+
+        assertEquals(book1.getTitle(), title.getValue());
+        book.setValue(book2);
+        assertEquals(book2.getTitle(), title.getValue());
+        title.setValue("The Twits");
+        assertEquals("The Twits", book2.getTitle());
+        assertEquals("Charlie and the Chocolate Factory", book1.getTitle());
+        book.setValue(null);
+        assertNull(title.getValue());
+    }
 }
@@ -80,4 +80,12 @@ public class PropertyTest {
     public void testOptional() {
         assertNull(Property.optional("author").of(Positions.readOnly(Book.class, (String) null)).getValue());
     }
+
+    @Test
+    public void testTypeFromDeclaredParentType() {
+        final Position.Readable<Book> nullBook = Positions.readOnly(Book.class, (Book) null);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Author.class, Property.at("author").of(nullBook).getType());
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.lang3.reflect.TypeLiteral;
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.junit.Test;
+
+public class AssignabilityTest {
+
+    @Test
+    public void testIsAssignable() {
+        final Assignability assignability = new Assignability();
+        assertTrue(assignability.isAssignable(String.class, CharSequence.class));
+        assertFalse(assignability.isAssignable(CharSequence.class, String.class));
+        assertTrue(assignability.isAssignable(new TypeLiteral<ArrayList<String>>() {}.value,
+            new TypeLiteral<Collection<? extends CharSequence>>() {}.value));
+        assertFalse(assignability.isAssignable(new TypeLiteral<List<Object>>() {}.value,
+            new TypeLiteral<List<String>>() {}.value));
+        assertTrue(assignability.isAssignable(null, String.class));
+        assertFalse(assignability.isAssignable(null, int.class));
+    }
+
+    @Test
+    public void testIsInstance() {
+        final Assignability assignability = new Assignability();
+        assertTrue(assignability.isInstance("foo", CharSequence.class));
+        assertFalse(assignability.isInstance(Integer.valueOf(1), CharSequence.class));
+        assertTrue(assignability.isInstance(null, String.class));
+        assertFalse(assignability.isInstance(null, int.class));
+        assertFalse(assignability.isInstance("foo", null));
+    }
+
+    @Test
+    public void testMemoized() {
+        final Assignability assignability = new Assignability();
+        assignability.isAssignable(TypeUtils.parameterize(List.class, String.class), Collection.class);
+        assignability.isAssignable(TypeUtils.parameterize(List.class, String.class), Collection.class);
+        assignability.isInstance("foo", new TypeLiteral<Comparable<String>>() {}.value);
+        assignability.isInstance("bar", new TypeLiteral<Comparable<String>>() {}.value);
+        final BoundedCache.Stats stats = assignability.getStats();
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    public void testClassPairsNotMemoized() {
+        final Assignability assignability = new Assignability();
+        assertTrue(assignability.isAssignable(String.class, CharSequence.class));
+        assertTrue(assignability.isInstance("foo", CharSequence.class));
+        assertTrue(assignability.isAssignable(int.class, Integer.class));
+        final BoundedCache.Stats stats = assignability.getStats();
+        assertEquals(0, stats.getMisses());
+        assertEquals(0, stats.getHits());
+        assertEquals(0, stats.getSize());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(8);
+        assertNull(cache.get("foo"));
+        cache.put("foo", 1);
+        assertEquals(Integer.valueOf(1), cache.get("foo"));
+
+        final BoundedCache.Stats stats = cache.getStats();
+        assertEquals(1L, stats.getHits());
+        assertEquals(1L, stats.getMisses());
+        assertEquals(0L, stats.getEvictions());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(8);
+        assertEquals(Integer.valueOf(3), cache.computeIfAbsent("foo", String::length));
+        assertEquals(Integer.valueOf(3), cache.computeIfAbsent("foo", k -> 666));
+        assertNull(cache.computeIfAbsent("bar", k -> null));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<>(64);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+        assertTrue(cache.size() <= 64);
+        assertEquals(1000L - cache.size(), cache.getStats().getEvictions());
+    }
+
+    @Test
+    public void testClear() {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<>(64);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i);
+        }
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(0));
+    }
+}
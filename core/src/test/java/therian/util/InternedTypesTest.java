@@ -0,0 +1,113 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.reflect.TypeLiteral;
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.junit.Test;
+
+public class InternedTypesTest {
+
+    @Test
+    public void testParameterizedType() {
+        final ParameterizedType listOfString = InternedTypes.parameterize(List.class, String.class);
+        assertSame(listOfString, InternedTypes.parameterize(List.class, String.class));
+        assertSame(listOfString, InternedTypes.intern(TypeUtils.parameterize(List.class, String.class)));
+        assertSame(listOfString, InternedTypes.intern(new TypeLiteral<List<String>>() {}.value));
+        assertTrue(InternedTypes.isInterned(listOfString));
+
+        final ParameterizedType plain = TypeUtils.parameterize(List.class, String.class);
+        assertEquals(plain, listOfString);
+        assertEquals(listOfString, plain);
+        assertEquals(TypeUtils.toString(plain), listOfString.toString());
+
+        final Type reflected = new TypeLiteral<List<String>>() {}.value;
+        assertEquals(reflected, listOfString);
+        assertEquals(listOfString, reflected);
+        assertEquals(reflected.hashCode(), listOfString.hashCode());
+    }
+
+    @Test
+    public void testWildcardType() {
+        final WildcardType reflected =
+            (WildcardType) ((ParameterizedType) new TypeLiteral<List<?>>() {}.value).getActualTypeArguments()[0];
+        final WildcardType unbounded = InternedTypes.intern(TypeUtils.wildcardType().build());
+        final WildcardType extendsObject =
+            InternedTypes.intern(TypeUtils.wildcardType().withUpperBounds(Object.class).build());
+        assertSame(unbounded, extendsObject);
+        assertSame(unbounded, InternedTypes.intern(reflected));
+        assertEquals(reflected, unbounded);
+        assertEquals(unbounded, reflected);
+        assertEquals(reflected.hashCode(), unbounded.hashCode());
+        assertEquals(unbounded, TypeUtils.wildcardType().build());
+
+        final ParameterizedType listOfSuper = (ParameterizedType) new TypeLiteral<List<? super String>>() {}.value;
+        final WildcardType reflectedSuper = (WildcardType) listOfSuper.getActualTypeArguments()[0];
+        final WildcardType superString = InternedTypes.intern(reflectedSuper);
+        assertEquals(reflectedSuper, superString);
+        assertEquals(reflectedSuper.hashCode(), superString.hashCode());
+        assertFalse(unbounded.equals(superString));
+    }
+
+    @Test
+    public void testNested() {
+        final ParameterizedType mapOfLists =
+            (ParameterizedType) InternedTypes.intern(new TypeLiteral<Map<String, List<? extends Number>>>() {}.value);
+        final Type[] typeArguments = mapOfLists.getActualTypeArguments();
+        assertSame(String.class, typeArguments[0]);
+        assertSame(InternedTypes.intern(new TypeLiteral<List<? extends Number>>() {}.value), typeArguments[1]);
+
+        final WildcardType wildcard = (WildcardType) ((ParameterizedType) typeArguments[1]).getActualTypeArguments()[0];
+        assertTrue(InternedTypes.isInterned(wildcard));
+        assertEquals(TypeUtils.wildcardType().withUpperBounds(Number.class).build(), wildcard);
+
+        typeArguments[0] = Object.class;
+        assertSame(String.class, mapOfLists.getActualTypeArguments()[0]);
+    }
+
+    @Test
+    public void testGenericArrayType() {
+        final Type listOfString = InternedTypes.parameterize(List.class, String.class);
+        final GenericArrayType array = InternedTypes.genericArrayType(listOfString);
+        assertSame(array, InternedTypes.intern(new TypeLiteral<List<String>[]>() {}.value));
+        assertSame(listOfString, array.getGenericComponentType());
+        final Type reflected = new TypeLiteral<List<String>[]>() {}.value;
+        assertEquals(reflected, array);
+        assertEquals(array, reflected);
+        assertEquals(reflected.hashCode(), array.hashCode());
+    }
+
+    @Test
+    public void testAlreadyCanonical() {
+        assertNull(InternedTypes.intern(null));
+        assertSame(String.class, InternedTypes.intern(String.class));
+        assertSame(List.class.getTypeParameters()[0], InternedTypes.intern(List.class.getTypeParameters()[0]));
+        assertFalse(InternedTypes.isInterned(TypeUtils.parameterize(List.class, String.class)));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package therian.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class RepresentativeElementsTest {
+
+    @Test
+    public void testSingle() {
+        final RepresentativeElements representatives = new RepresentativeElements();
+        assertTrue(representatives.add("foo"));
+        assertFalse(representatives.add("bar"));
+        assertTrue(representatives.add(Integer.valueOf(1)));
+        assertFalse(representatives.add(Integer.valueOf(2)));
+        assertTrue(representatives.add(null));
+        assertFalse(representatives.add(null));
+    }
+
+    @Test
+    public void testContainersAlwaysChecked() {
+        final RepresentativeElements representatives = new RepresentativeElements();
+        assertTrue(representatives.add(Arrays.asList("foo")));
+        assertTrue(representatives.add(Arrays.asList("bar")));
+        assertTrue(representatives.add(new String[0]));
+        assertTrue(representatives.add(new String[0]));
+        assertTrue(representatives.add(Collections.emptyMap()));
+        assertTrue(representatives.add(Collections.emptyMap()));
+    }
+
+    @Test
+    public void testPairs() {
+        final RepresentativeElements representatives = new RepresentativeElements();
+        assertTrue(representatives.add("foo", Integer.valueOf(1)));
+        assertFalse(representatives.add("bar", Integer.valueOf(2)));
+        assertTrue(representatives.add(Integer.valueOf(1), "foo"));
+        assertTrue(representatives.add("foo", null));
+        assertFalse(representatives.add("bar", null));
+        assertTrue(representatives.add("foo", Arrays.asList("bar")));
+        assertTrue(representatives.add("foo", Arrays.asList("bar")));
+    }
+}
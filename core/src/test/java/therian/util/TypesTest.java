@@ -2,10 +2,12 @@ package therian.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -15,9 +17,11 @@ import java.util.List;
 
 import org.apache.commons.lang3.reflect.TypeLiteral;
 import org.apache.commons.lang3.reflect.TypeUtils;
+import org.apache.commons.lang3.reflect.Typed;
 import org.junit.Assert;
 import org.junit.Test;
 
+import therian.BindTypeVariable;
 import therian.Operation;
 import therian.operation.Convert;
 import therian.operation.Copy;
@@ -82,6 +86,51 @@ public class TypesTest {
             Operation.class.getTypeParameters()[0]));
     }
 
+    @Test
+    public void testGetTypedReader() {
+        final Convert<Integer, String> convert = Convert.to(String.class, Positions.readOnly(Integer.valueOf(666)));
+        assertEquals(Integer.class,
+            Types.getTypedReader(Convert.class, Transform.class.getTypeParameters()[0]).apply(convert));
+        assertEquals(String.class,
+            Types.getTypedReader(Convert.class, Convert.class.getTypeParameters()[1]).apply(convert));
+        assertNull(Types.getTypedReader(Convert.class, List.class.getTypeParameters()[0]));
+    }
+
+    static class PackageBound<T> {
+        private final Typed<T> type;
+
+        PackageBound(Typed<T> type) {
+            this.type = type;
+        }
+
+        @BindTypeVariable
+        public Typed<T> getType() {
+            return type;
+        }
+    }
+
+    static class PackageBoundSubclass extends PackageBound<String> {
+
+        PackageBoundSubclass(Typed<String> type) {
+            super(type);
+        }
+    }
+
+    @Test
+    public void testPackageAccessTypedReader() {
+        final TypeVariable<?> var = PackageBound.class.getTypeParameters()[0];
+        final Typed<String> typed = TypeUtils.wrap(String.class);
+        assertEquals(String.class, Types.resolveAt(new PackageBound<>(typed), var));
+        assertEquals(String.class, Types.resolveAt(new PackageBoundSubclass(typed), var));
+        assertEquals(String.class, Types.getTypedReader(PackageBoundSubclass.class, var).apply(
+            new PackageBoundSubclass(typed)));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testNullTypedReader() {
+        Types.resolveAt(new PackageBound<>(null), PackageBound.class.getTypeParameters()[0]);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testBadTypeVariable() throws Exception {
         Types.resolveAt(Convert.to(String.class, Positions.readOnly(Integer.valueOf(666))), getClass()